@@ -1,18 +1,29 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package checker;
 
 import checker.holiday.GermanState;
-import checker.holiday.GermanyHolidayChecker;
-import checker.holiday.HolidayFetchException;
-import checker.holiday.IHolidayChecker;
+import checker.rule.CheckerRule;
+import checker.rule.DayPauseTimeRule;
+import checker.rule.DayTimeBoundsRule;
+import checker.rule.DayTimeExceedanceRule;
+import checker.rule.DepartmentNameRule;
+import checker.rule.RowNumExceedanceRule;
+import checker.rule.RuleChecker;
+import checker.rule.RuleSet;
+import checker.rule.TimeOverlapRule;
+import checker.rule.TotalTimeExceedanceRule;
+import checker.rule.ValidWorkingDaysRule;
 import data.Entry;
 import data.TimeSheet;
 import data.TimeSpan;
 import i18n.ResourceHandler;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * The MiLoGChecker checks whether a {@link TimeSheet} instance is valid or not.
@@ -20,17 +31,13 @@ import java.util.*;
  * "Mindestlohngesetz" or "MiLoG".
  */
 public class MiLoGChecker implements IChecker {
-	// TODO Are those static constant values better than attributes?
-	private static final TimeSpan WORKDAY_LOWER_BOUND = new TimeSpan(6, 0);
-	private static final TimeSpan WORKDAY_UPPER_BOUND = new TimeSpan(22, 0);
-	private static final TimeSpan WORKDAY_MAX_WORKING_TIME = new TimeSpan(10, 0);
-
-	// TODO Replace with enum
-	private static final TimeSpan[][] PAUSE_RULES = { { new TimeSpan(6, 0), new TimeSpan(0, 30) }, { new TimeSpan(9, 0), new TimeSpan(0, 45) } };
 	private static final GermanState STATE = GermanState.BW;
+	private static final Map<String, RuleSet> SINGLE_RULES = RuleSet.all().getRules().stream()
+			.collect(Collectors.toUnmodifiableMap(CheckerRule::getName, rule -> RuleSet.of(List.of(rule))));
 
 	private final TimeSheet timeSheet;
-	private final int maxRowNum;
+	private final ExportType exportType;
+	private final RuleChecker ruleChecker;
 
 	private CheckerReturn result;
 	private final Collection<CheckerError> errors;
@@ -53,16 +60,32 @@ public class MiLoGChecker implements IChecker {
 	 *                   Latex.
 	 */
 	public MiLoGChecker(TimeSheet timeSheet, ExportType exportType) {
+		this(timeSheet, exportType, RuleSet.all());
+	}
+
+	/**
+	 * Constructs a new {@link MiLoGChecker} instance that only checks the given
+	 * rules, e.g. {@code RuleSet.all().without(ValidWorkingDaysRule.NAME)} for a
+	 * cheap check without holiday lookups.
+	 *
+	 * @param timeSheet  - to be checked.
+	 * @param exportType The export type, so if this is being exported to PDF or
+	 *                   Latex.
+	 * @param rules      The rules to check.
+	 */
+	public MiLoGChecker(TimeSheet timeSheet, ExportType exportType, RuleSet rules) {
 		this.timeSheet = timeSheet;
 
 		this.result = CheckerReturn.VALID;
 		this.errors = Collections.synchronizedCollection(new ArrayList<>());
-		this.maxRowNum = exportType.getMaxEntries();
+		this.exportType = exportType;
+		this.ruleChecker = new RuleChecker(timeSheet, exportType, STATE, rules);
 	}
 
 	/**
 	 * Runs all of the needed tests in order to validate the {@link TimeSheet}
-	 * instance.
+	 * instance. The tests are the {@link checker.rule.CheckerRule rules} of the
+	 * {@link RuleSet} of this checker, evaluated in a single pass.
 	 *
 	 * @return {@link CheckerReturn} value with error or validity message
 	 * @throws CheckerException Thrown if an error occurs while checking the
@@ -70,18 +93,10 @@ public class MiLoGChecker implements IChecker {
 	 */
 	@Override
 	public CheckerReturn check() throws CheckerException {
-		result = CheckerReturn.VALID;
 		errors.clear();
 
-		checkTotalTimeExceedance();
-		checkDayTimeExceedance();
-		checkDayPauseTime();
-		checkDayTimeBounds();
-		checkValidWorkingDays();
-		checkTimeOverlap();
-
-		checkRowNumExceedance();
-		checkDepartmentName();
+		result = ruleChecker.check();
+		errors.addAll(ruleChecker.getErrors());
 
 		return result;
 	}
@@ -101,157 +116,45 @@ public class MiLoGChecker implements IChecker {
 	 * Checks whether total maximum working time was exceeded.
 	 */
 	protected void checkTotalTimeExceedance() {
-		// Legal maximum working time per month
-		TimeSpan maxWorkingTime = timeSheet.getProfession().getMaxWorkingTime();
-
-		// Sum of all daily working times (without pauses!)
-		TimeSpan totalWorkingTime = timeSheet.getTotalWorkTime();
-
-		// Vacation and transfer corrected time
-		TimeSpan correctedMaxWorkingTime = maxWorkingTime.add(timeSheet.getSuccTransfer()).subtract(timeSheet.getPredTransfer())
-				.subtract(timeSheet.getTotalVacationTime());
-
-		if (totalWorkingTime.compareTo(correctedMaxWorkingTime) > 0) {
-			// Calculate difference
-			TimeSpan difference = totalWorkingTime.subtract(correctedMaxWorkingTime);
-
-			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TOTAL_TIME_EXCEEDANCE, maxWorkingTime, difference));
-			result = CheckerReturn.INVALID;
-		}
+		checkRule(TotalTimeExceedanceRule.NAME);
 	}
 
 	/**
 	 * Checks whether daily maximum working time was exceeded.
 	 */
 	protected void checkDayTimeExceedance() {
-		// This map contains all working days and their summed up working times.
-		Map<LocalDate, TimeSpan> workingTimeMap = new HashMap<>();
-		for (Entry entry : timeSheet.getEntries()) {
-			if (!entry.isVacation()) {
-				// A check is performed whether a day contains more than one entry.
-				if (workingTimeMap.containsKey(entry.getDate())) {
-					// If so, the working times are summed up and written back to the map.
-					TimeSpan summedTime = workingTimeMap.get(entry.getDate()).add(entry.getWorkingTime());
-					workingTimeMap.put(entry.getDate(), summedTime);
-				} else {
-					// If not, a new entry will be created in the map.
-					workingTimeMap.put(entry.getDate(), entry.getWorkingTime());
-				}
-			}
-		}
-
-		for (Map.Entry<LocalDate, TimeSpan> mapEntry : workingTimeMap.entrySet()) {
-			if (WORKDAY_MAX_WORKING_TIME.compareTo(mapEntry.getValue()) < 0) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.DAY_TIME_EXCEEDANCE, WORKDAY_MAX_WORKING_TIME, mapEntry.getKey()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+		checkRule(DayTimeExceedanceRule.NAME);
 	}
 
 	/**
 	 * Checks whether the working time per day meets all legal pause rules.
 	 */
 	protected void checkDayPauseTime() {
-		// This map contains all dates associated with their working times
-		HashMap<LocalDate, TimeSpan[]> workingDays = new HashMap<>();
-
-		for (Entry entry : timeSheet.getEntries()) {
-			if (!entry.isVacation()) {
-				// EndToStart is the number of hours at this work shift.
-				TimeSpan endToStart = entry.getEnd();
-				endToStart = endToStart.subtract(entry.getStart());
-				TimeSpan pause = entry.getPause();
-				LocalDate date = entry.getDate();
-
-				// If a day appears more than once this logic sums all of the working times
-				if (workingDays.containsKey(date)) {
-					TimeSpan oldWorkingTime = workingDays.get(date)[0];
-					endToStart = endToStart.add(oldWorkingTime);
-
-					TimeSpan oldPause = workingDays.get(date)[1];
-					pause = pause.add(oldPause);
-				}
-
-				// Adds the day to the map, replaces the old entry respectively
-				TimeSpan[] mapTimeEntry = { endToStart, pause };
-				workingDays.put(date, mapTimeEntry);
-			}
-		}
-
-		// Check for every mapTimeEntry (first for), whether all Pause Rules (second
-		// for) where met.
-		for (Map.Entry<LocalDate, TimeSpan[]> mapEntry : workingDays.entrySet()) {
-			for (TimeSpan[] pauseRule : PAUSE_RULES) {
-
-				// Checks whether time of entry is greater than pause rule "activation"
-				// time
-				// and pause time is less than the needed time.
-				if (mapEntry.getValue()[0].compareTo(pauseRule[0]) > 0 && mapEntry.getValue()[1].compareTo(pauseRule[1]) < 0) {
-					errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_PAUSE, mapEntry.getKey()));
-					result = CheckerReturn.INVALID;
-					break;
-				}
-			}
-		}
+		checkRule(DayPauseTimeRule.NAME);
 	}
 
 	/**
 	 * Checks whether the working time per day is inside the legal bounds.
 	 */
 	protected void checkDayTimeBounds() {
-		for (Entry entry : timeSheet.getEntries()) {
-			if (entry.getStart().compareTo(WORKDAY_LOWER_BOUND) < 0 || entry.getEnd().compareTo(WORKDAY_UPPER_BOUND) > 0) {
-
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, entry.getDate()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+		checkRule(DayTimeBoundsRule.NAME);
 	}
 
 	/**
 	 * Checks whether all of the days are valid working days.
 	 *
-	 * @throws CheckerException Thrown if an error occurs while fetching holidays
+	 * @throws CheckerException Thrown if an error occurs while checking the
+	 *                          validity
 	 */
 	protected void checkValidWorkingDays() throws CheckerException {
-		IHolidayChecker holidayChecker = new GermanyHolidayChecker(timeSheet.getYear(), STATE);
-		for (Entry entry : timeSheet.getEntries()) {
-			LocalDate localDate = entry.getDate();
-
-			// Checks whether the day of the entry is Sunday
-			if (localDate.getDayOfWeek().equals(DayOfWeek.SUNDAY)) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_SUNDAY, localDate));
-				result = CheckerReturn.INVALID;
-				continue;
-			}
-
-			// Check for each entry whether it is a holiday
-			try {
-				if (holidayChecker.isHoliday(localDate)) {
-					errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY, localDate));
-					result = CheckerReturn.INVALID;
-				}
-			} catch (HolidayFetchException e) {
-				throw new CheckerException(e.getMessage());
-			}
-		}
+		runRule(ValidWorkingDaysRule.NAME);
 	}
 
 	/**
 	 * Checks whether times of different entries in the time sheet overlap.
 	 */
 	protected void checkTimeOverlap() {
-		List<Entry> entries = timeSheet.getEntries();
-		if (entries.isEmpty()) {
-			return;
-		}
-
-		for (int i = 0; i < entries.size() - 1; i++) {
-			if (entries.get(i).getDate().equals(entries.get(i + 1).getDate()) && entries.get(i).getEnd().compareTo(entries.get(i + 1).getStart()) > 0) {
-				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OVERLAP, entries.get(i).getDate()));
-				result = CheckerReturn.INVALID;
-			}
-		}
+		checkRule(TimeOverlapRule.NAME);
 	}
 
 	/**
@@ -259,19 +162,43 @@ public class MiLoGChecker implements IChecker {
 	 * the template document.
 	 */
 	protected void checkRowNumExceedance() {
-		int rowCount = timeSheet.getEntries().size();
-		if (rowCount > maxRowNum) {
-			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.ROWNUM_EXCEEDENCE, maxRowNum, rowCount - maxRowNum));
-			result = CheckerReturn.INVALID;
-		}
+		checkRule(RowNumExceedanceRule.NAME);
 	}
 
 	/**
 	 * Checks whether the department name is empty.
 	 */
 	protected void checkDepartmentName() {
-		if (timeSheet.getProfession().getDepartmentName().isEmpty()) {
-			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.NAME_MISSING));
+		checkRule(DepartmentNameRule.NAME);
+	}
+
+	/**
+	 * Checks a single rule of {@link RuleSet#all()} that does not look up holidays
+	 * and adds its errors to the errors of this checker.
+	 *
+	 * @param name - the name of the rule.
+	 */
+	private void checkRule(String name) {
+		try {
+			runRule(name);
+		} catch (CheckerException e) {
+			// Only looking up holidays can fail
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Checks a single rule of {@link RuleSet#all()} and adds its errors to the
+	 * errors of this checker.
+	 *
+	 * @param name - the name of the rule.
+	 * @throws CheckerException Thrown if an error occurs while checking the
+	 *                          validity
+	 */
+	private void runRule(String name) throws CheckerException {
+		RuleChecker singleRuleChecker = new RuleChecker(timeSheet, exportType, STATE, SINGLE_RULES.get(name));
+		if (singleRuleChecker.check() == CheckerReturn.INVALID) {
+			errors.addAll(singleRuleChecker.getErrors());
 			result = CheckerReturn.INVALID;
 		}
 	}
@@ -316,7 +243,7 @@ public class MiLoGChecker implements IChecker {
 	 * @return The legal lower bound of time to start a working day.
 	 */
 	protected static TimeSpan getWorkdayLowerBound() {
-		return WORKDAY_LOWER_BOUND;
+		return DayTimeBoundsRule.WORKDAY_LOWER_BOUND;
 	}
 
 	/**
@@ -325,7 +252,7 @@ public class MiLoGChecker implements IChecker {
 	 * @return The legal upper bound of time to end a working day.
 	 */
 	protected static TimeSpan getWorkdayUpperBound() {
-		return WORKDAY_UPPER_BOUND;
+		return DayTimeBoundsRule.WORKDAY_UPPER_BOUND;
 	}
 
 	/**
@@ -334,23 +261,23 @@ public class MiLoGChecker implements IChecker {
 	 * @return The daily maximum working time.
 	 */
 	protected static TimeSpan getWorkdayMaxWorkingTime() {
-		return WORKDAY_MAX_WORKING_TIME;
+		return DayTimeExceedanceRule.WORKDAY_MAX_WORKING_TIME;
 	}
 
 	/**
 	 * This method gets the legal pause rules to conform to laws.
 	 *
-	 * @return The legal pause rules.
+	 * @return A copy of the legal pause rules.
 	 */
 	protected static TimeSpan[][] getPauseRules() {
-		return PAUSE_RULES;
+		return DayPauseTimeRule.getPauseRules();
 	}
 
 	/**
 	 * This enum holds the possible error messages (including format specifiers) for
 	 * this checker
 	 */
-	protected enum MiLoGCheckerErrorMessageProvider implements CheckerError.CheckerErrorMessageProvider {
+	public enum MiLoGCheckerErrorMessageProvider implements CheckerError.CheckerErrorMessageProvider {
 		TOTAL_TIME_EXCEEDANCE("totalTimeExceedance"), DAY_TIME_EXCEEDANCE("dayTimeExceedance"), TIME_OUTOFBOUNDS("timeOutOfBounds"), TIME_SUNDAY("timeSunday"),
 		TIME_HOLIDAY("timeHoliday"), TIME_PAUSE("timePause"), TIME_OVERLAP("timeOverlap"),
 
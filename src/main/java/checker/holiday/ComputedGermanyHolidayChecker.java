@@ -0,0 +1,176 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A ComputedGermanyHolidayChecker is a holiday checker implementing
+ * {@link IHolidayChecker} that computes the legal {@link Holiday holidays} of
+ * all different {@link GermanState GermanStates} locally, without fetching them
+ * from a remote source. The movable feasts are derived from the date of Easter
+ * Sunday.
+ * <p>
+ * Holidays that only apply to some municipalities of a state, like
+ * Fronleichnam in parts of Sachsen and Thüringen or the Augsburger
+ * Friedensfest, are not part of the result. The only exception is Mariä
+ * Himmelfahrt in Bayern, which applies to most but not all municipalities and
+ * is included like in the source of {@link GermanyHolidayChecker}. The
+ * descriptions match the ones of {@link GermanyHolidayChecker}.
+ * </p>
+ */
+public class ComputedGermanyHolidayChecker implements IHolidayChecker {
+
+	private static final Set<GermanState> HEILIGE_DREI_KOENIGE = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.ST);
+	private static final Set<GermanState> EASTER_AND_WHIT_SUNDAY = EnumSet.of(GermanState.BB);
+	private static final Set<GermanState> FRONLEICHNAM = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.HE, GermanState.NW, GermanState.RP,
+			GermanState.SL);
+	private static final Set<GermanState> MARIAE_HIMMELFAHRT = EnumSet.of(GermanState.BY, GermanState.SL);
+	private static final Set<GermanState> REFORMATIONSTAG = EnumSet.of(GermanState.BB, GermanState.MV, GermanState.SN, GermanState.ST, GermanState.TH);
+	private static final Set<GermanState> REFORMATIONSTAG_SINCE_2018 = EnumSet.of(GermanState.HB, GermanState.HH, GermanState.NI, GermanState.SH);
+	private static final Set<GermanState> ALLERHEILIGEN = EnumSet.of(GermanState.BW, GermanState.BY, GermanState.NW, GermanState.RP, GermanState.SL);
+
+	private final Year year;
+	private final GermanState state;
+	private Collection<Holiday> holidays;
+	private Set<LocalDate> holidayDates;
+
+	/**
+	 * Constructs a new {@link ComputedGermanyHolidayChecker} instance.
+	 * 
+	 * @param year  - in which the {@link Holiday holidays} take place.
+	 * @param state - of Germany to check for possible {@link Holiday holidays}.
+	 */
+	public ComputedGermanyHolidayChecker(int year, GermanState state) {
+		this.year = Year.of(year);
+		this.state = state;
+	}
+
+	@Override
+	public boolean isHoliday(LocalDate date) {
+		if (date.getYear() != year.getValue()) {
+			return false;
+		}
+
+		if (holidayDates == null) {
+			holidayDates = getHolidays().stream().map(Holiday::getDate).collect(Collectors.toSet());
+		}
+		return holidayDates.contains(date);
+	}
+
+	@Override
+	public Collection<Holiday> getHolidays() {
+		if (holidays == null) {
+			holidays = Collections.unmodifiableList(computeHolidays());
+		}
+		return holidays;
+	}
+
+	/**
+	 * Computes all holidays of the year and state, sorted by date.
+	 * 
+	 * @return The holidays of the year and state.
+	 */
+	private List<Holiday> computeHolidays() {
+		int y = year.getValue();
+		LocalDate easterSunday = getEasterSunday(y);
+		List<Holiday> result = new ArrayList<>();
+
+		// Nationwide holidays
+		result.add(new Holiday(LocalDate.of(y, Month.JANUARY, 1), "Neujahrstag"));
+		result.add(new Holiday(easterSunday.minusDays(2), "Karfreitag"));
+		result.add(new Holiday(easterSunday.plusDays(1), "Ostermontag"));
+		result.add(new Holiday(LocalDate.of(y, Month.MAY, 1), "Tag der Arbeit"));
+		result.add(new Holiday(easterSunday.plusDays(39), "Christi Himmelfahrt"));
+		result.add(new Holiday(easterSunday.plusDays(50), "Pfingstmontag"));
+		result.add(new Holiday(LocalDate.of(y, Month.OCTOBER, 3), "Tag der Deutschen Einheit"));
+		result.add(new Holiday(LocalDate.of(y, Month.DECEMBER, 25), "1. Weihnachtstag"));
+		result.add(new Holiday(LocalDate.of(y, Month.DECEMBER, 26), "2. Weihnachtstag"));
+
+		// State specific holidays
+		if (HEILIGE_DREI_KOENIGE.contains(state)) {
+			result.add(new Holiday(LocalDate.of(y, Month.JANUARY, 6), "Heilige Drei Könige"));
+		}
+		if ((state == GermanState.BE && y >= 2019) || (state == GermanState.MV && y >= 2023)) {
+			result.add(new Holiday(LocalDate.of(y, Month.MARCH, 8), "Internationaler Frauentag"));
+		}
+		if (EASTER_AND_WHIT_SUNDAY.contains(state)) {
+			result.add(new Holiday(easterSunday, "Ostersonntag"));
+			result.add(new Holiday(easterSunday.plusDays(49), "Pfingstsonntag"));
+		}
+		if (state == GermanState.BE && (y == 2020 || y == 2025)) {
+			result.add(new Holiday(LocalDate.of(y, Month.MAY, 8), "Tag der Befreiung"));
+		}
+		if (FRONLEICHNAM.contains(state)) {
+			result.add(new Holiday(easterSunday.plusDays(60), "Fronleichnam"));
+		}
+		// In Bayern only in the municipalities with a predominantly catholic population
+		if (MARIAE_HIMMELFAHRT.contains(state)) {
+			result.add(new Holiday(LocalDate.of(y, Month.AUGUST, 15), "Mariä Himmelfahrt"));
+		}
+		if (state == GermanState.TH && y >= 2019) {
+			result.add(new Holiday(LocalDate.of(y, Month.SEPTEMBER, 20), "Weltkindertag"));
+		}
+		if (isReformationstag(y)) {
+			result.add(new Holiday(LocalDate.of(y, Month.OCTOBER, 31), "Reformationstag"));
+		}
+		if (ALLERHEILIGEN.contains(state)) {
+			result.add(new Holiday(LocalDate.of(y, Month.NOVEMBER, 1), "Allerheiligen"));
+		}
+		if (state == GermanState.SN) {
+			// Wednesday before the 23rd of November
+			LocalDate bussUndBettag = LocalDate.of(y, Month.NOVEMBER, 22).with(TemporalAdjusters.previousOrSame(DayOfWeek.WEDNESDAY));
+			result.add(new Holiday(bussUndBettag, "Buß- und Bettag"));
+		}
+
+		result.sort(Comparator.comparing(Holiday::getDate));
+		return result;
+	}
+
+	/**
+	 * Checks whether the Reformationstag is a holiday in the state. It was a
+	 * nationwide holiday in 2017 for the 500th anniversary of the reformation.
+	 * 
+	 * @param y - the year to check.
+	 * @return True if the Reformationstag is a holiday, false otherwise.
+	 */
+	private boolean isReformationstag(int y) {
+		return y == 2017 || REFORMATIONSTAG.contains(state) || (y >= 2018 && REFORMATIONSTAG_SINCE_2018.contains(state));
+	}
+
+	/**
+	 * Computes the date of Easter Sunday in the Gregorian calendar using the
+	 * anonymous Gregorian algorithm (Meeus/Jones/Butcher).
+	 * 
+	 * @param y - the year to compute Easter Sunday for.
+	 * @return The date of Easter Sunday.
+	 */
+	static LocalDate getEasterSunday(int y) {
+		int a = y % 19;
+		int b = y / 100;
+		int c = y % 100;
+		int d = b / 4;
+		int e = b % 4;
+		int f = (b + 8) / 25;
+		int g = (b - f + 1) / 3;
+		int h = (19 * a + b - d - g + 15) % 30;
+		int i = c / 4;
+		int k = c % 4;
+		int l = (32 + 2 * e + 2 * i - h - k) % 7;
+		int m = (a + 11 * h + 22 * l) / 451;
+		int month = (h + l - 7 * m + 114) / 31;
+		int day = (h + l - 7 * m + 114) % 31 + 1;
+		return LocalDate.of(y, month, day);
+	}
+}
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package checker.holiday;
 
 import io.FileController;
@@ -12,6 +12,8 @@ import java.net.URL;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * A GermanyHolidayChecker is a holiday checker implementing
@@ -22,19 +24,36 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 
 	private final Year year;
 	private final GermanState state;
+	private final HolidayCache cache;
 	private Collection<Holiday> holidays;
+	private Set<LocalDate> holidayDates;
 	private static final String HOLIDAY_FETCH_ADDRESS_HTTPS = "https://feiertage-api.de/api/?jahr=$year$&nur_land=$state$";
 	private static final String HOLIDAY_FETCH_ADDRESS_HTTP = "http://feiertage-api.de/api/?jahr=$year$&nur_land=$state$";
 
 	/**
-	 * Constructs a new {@link GermanyHolidayChecker} instance.
+	 * Constructs a new {@link GermanyHolidayChecker} instance that fetches the
+	 * {@link Holiday holidays} without storing them on disk.
 	 * 
 	 * @param year  - in which the {@link Holiday holidays} take place.
 	 * @param state - of Germany to check for possible {@link Holiday holidays}.
 	 */
 	public GermanyHolidayChecker(int year, GermanState state) {
+		this(year, state, null);
+	}
+
+	/**
+	 * Constructs a new {@link GermanyHolidayChecker} instance, e.g. with the
+	 * {@link HolidayCache#getDefault() default holiday cache}.
+	 * 
+	 * @param year  - in which the {@link Holiday holidays} take place.
+	 * @param state - of Germany to check for possible {@link Holiday holidays}.
+	 * @param cache - to store the fetched {@link Holiday holidays} in, or
+	 *              {@code null} to always fetch them.
+	 */
+	public GermanyHolidayChecker(int year, GermanState state, HolidayCache cache) {
 		this.year = Year.of(year);
 		this.state = state;
+		this.cache = cache;
 	}
 
 	@Override
@@ -43,12 +62,7 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 			fetchHolidays();
 		}
 
-		for (Holiday holiday : holidays) {
-			if (holiday.equalsDate(date)) {
-				return true;
-			}
-		}
-		return false;
+		return holidayDates.contains(date);
 	}
 
 	@Override
@@ -60,14 +74,14 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 	}
 
 	/**
-	 * Fetches the occurring holidays from a specific source.
+	 * Fetches the occurring holidays from the cache or a specific source.
 	 * 
 	 * @throws HolidayFetchException if an error occurs fetching the holidays.
 	 */
 	private void fetchHolidays() throws HolidayFetchException {
 		String stringHolidays;
 		try {
-			stringHolidays = fetchHolidaysJSONString();
+			stringHolidays = cache == null ? fetchHolidaysJSONString() : cache.get(year.getValue(), state, this::fetchHolidaysJSONString);
 		} catch (IOException e) {
 			throw new HolidayFetchException(e.getMessage());
 		}
@@ -76,7 +90,11 @@ public class GermanyHolidayChecker implements IHolidayChecker {
 			IHolidayParser holidayParser = new JsonHolidayParser(stringHolidays);
 
 			holidays = holidayParser.getHolidays();
+			holidayDates = holidays.stream().map(Holiday::getDate).collect(Collectors.toSet());
 		} catch (ParseException e) {
+			if (cache != null) {
+				cache.invalidate(year.getValue(), state);
+			}
 			throw new HolidayFetchException(e.getMessage());
 		}
 
@@ -0,0 +1,152 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import io.FileController;
+import ui.json.JSONHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * A HolidayCache stores fetched holidays on disk, so that the holidays of a
+ * year and {@link GermanState} only have to be fetched once. Entries expire
+ * after a configurable time to live. If fetching fresh holidays fails, an
+ * expired entry is used as fallback.
+ */
+public class HolidayCache {
+
+	/**
+	 * The time to live of the default cache.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(30);
+
+	private static final String CACHE_DIRECTORY_NAME = "holidays";
+
+	private final Path directory;
+	private final Duration timeToLive;
+
+	/**
+	 * Constructs a new {@link HolidayCache} instance.
+	 * 
+	 * @param directory  - the directory the holidays are stored in.
+	 * @param timeToLive - how long a stored entry is considered fresh.
+	 */
+	public HolidayCache(Path directory, Duration timeToLive) {
+		this.directory = directory;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns a cache located in the application data directory with the
+	 * {@link #DEFAULT_TIME_TO_LIVE default time to live}.
+	 * 
+	 * @return The default cache.
+	 */
+	public static HolidayCache getDefault() {
+		return new HolidayCache(Path.of(JSONHandler.getApplicationDataPath(), CACHE_DIRECTORY_NAME), DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Returns the holidays of a year and state. A fresh cache entry is returned
+	 * without fetching. Otherwise, the holidays are fetched and stored. If fetching
+	 * fails, an expired entry is returned if present.
+	 * 
+	 * @param year    - the year of the holidays.
+	 * @param state   - the state of the holidays.
+	 * @param fetcher - fetches the holidays if there is no fresh entry.
+	 * @return The holidays, in the format returned by the fetcher.
+	 * @throws IOException if fetching fails and there is no cache entry.
+	 */
+	public String get(int year, GermanState state, Fetcher fetcher) throws IOException {
+		Path file = getFile(year, state);
+		Optional<Instant> lastModified = getLastModified(file);
+		if (lastModified.isPresent() && lastModified.get().plus(timeToLive).isAfter(Instant.now())) {
+			Optional<String> cached = read(file);
+			if (cached.isPresent()) {
+				return cached.get();
+			}
+		}
+
+		String fetched;
+		try {
+			fetched = fetcher.fetch();
+		} catch (IOException e) {
+			Optional<String> stale = read(file);
+			if (stale.isPresent()) {
+				return stale.get();
+			}
+			throw e;
+		}
+
+		write(file, fetched);
+		return fetched;
+	}
+
+	/**
+	 * Removes the entry of a year and state, e.g. because it could not be parsed.
+	 * 
+	 * @param year  - the year of the holidays.
+	 * @param state - the state of the holidays.
+	 */
+	public void invalidate(int year, GermanState state) {
+		try {
+			Files.deleteIfExists(getFile(year, state));
+		} catch (IOException e) {
+			Logger.getGlobal().warning("Failed to remove cached holidays: %s%n".formatted(e.getMessage()));
+		}
+	}
+
+	private Path getFile(int year, GermanState state) {
+		return directory.resolve("%d-%s.json".formatted(year, state.name()));
+	}
+
+	private static Optional<Instant> getLastModified(Path file) {
+		try {
+			return Optional.of(Files.getLastModifiedTime(file).toInstant());
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static Optional<String> read(Path file) {
+		try {
+			return Optional.of(Files.readString(file));
+		} catch (NoSuchFileException e) {
+			return Optional.empty();
+		} catch (IOException e) {
+			Logger.getGlobal().warning("Failed to read cached holidays from %s%n".formatted(file));
+			return Optional.empty();
+		}
+	}
+
+	private static void write(Path file, String holidays) {
+		// The cache is an optimization only, so failing to write it is not an error
+		try {
+			Files.createDirectories(file.getParent());
+			FileController.saveStringToFile(holidays, file.toFile());
+		} catch (IOException e) {
+			Logger.getGlobal().warning("Failed to write cached holidays to %s%n".formatted(file));
+		}
+	}
+
+	/**
+	 * Fetches holidays from their source.
+	 */
+	@FunctionalInterface
+	public interface Fetcher {
+
+		/**
+		 * Fetches the holidays.
+		 * 
+		 * @return The fetched holidays.
+		 * @throws IOException if an I/O error occurs.
+		 */
+		String fetch() throws IOException;
+	}
+}
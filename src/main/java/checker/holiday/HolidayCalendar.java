@@ -0,0 +1,191 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A HolidayCalendar is a thread-safe, process-wide cache of the
+ * {@link Holiday holidays} per year and {@link GermanState}. The holidays of a
+ * year are loaded only once, even if many checks for the same year run
+ * concurrently, and are indexed by the day of the year, so that a lookup takes
+ * constant time.
+ * <p>
+ * Loading failures are not cached, so a later check will try to load the
+ * holidays again.
+ * </p>
+ */
+public class HolidayCalendar {
+
+	private static volatile HolidayCalendar defaultCalendar = new HolidayCalendar(
+			(year, state) -> new ComputedGermanyHolidayChecker(year, state).getHolidays());
+
+	private final Loader loader;
+	private final Map<Key, CompletableFuture<YearHolidays>> years = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new {@link HolidayCalendar} instance.
+	 * 
+	 * @param loader - loads the holidays of a year and state.
+	 */
+	public HolidayCalendar(Loader loader) {
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns a calendar that fetches the holidays with
+	 * {@link GermanyHolidayChecker} and stores them in a cache, so that the
+	 * holidays of a year and state are fetched from the network only once.
+	 * 
+	 * @param cache - to store the fetched {@link Holiday holidays} in.
+	 * @return A calendar fetching the holidays.
+	 */
+	public static HolidayCalendar fetching(HolidayCache cache) {
+		return new HolidayCalendar((year, state) -> new GermanyHolidayChecker(year, state, cache).getHolidays());
+	}
+
+	/**
+	 * Returns the calendar shared by the whole process. Unless
+	 * {@link #setDefault(HolidayCalendar) replaced}, it loads the holidays with
+	 * {@link ComputedGermanyHolidayChecker}.
+	 * 
+	 * @return The default calendar.
+	 */
+	public static HolidayCalendar getDefault() {
+		return defaultCalendar;
+	}
+
+	/**
+	 * Replaces the calendar shared by the whole process, e.g. with a
+	 * {@link #fetching(HolidayCache) fetching calendar}.
+	 * 
+	 * @param calendar - the new default calendar.
+	 */
+	public static void setDefault(HolidayCalendar calendar) {
+		defaultCalendar = calendar;
+	}
+
+	/**
+	 * Returns a holiday checker for a year and state backed by this calendar.
+	 * Creating the checker is cheap, the holidays are loaded on first use.
+	 * 
+	 * @param year  - in which the {@link Holiday holidays} take place.
+	 * @param state - of Germany to check for possible {@link Holiday holidays}.
+	 * @return A holiday checker for the year and state.
+	 */
+	public IHolidayChecker getChecker(int year, GermanState state) {
+		return new CalendarHolidayChecker(year, state);
+	}
+
+	/**
+	 * Returns the holidays of a year and state, loading them if necessary. If the
+	 * holidays are currently loaded by another thread, this method waits for it
+	 * instead of loading them again.
+	 * 
+	 * @param year  - the year of the holidays.
+	 * @param state - the state of the holidays.
+	 * @return The holidays of the year and state.
+	 * @throws HolidayFetchException if the holidays cannot be loaded.
+	 */
+	private YearHolidays getYear(int year, GermanState state) throws HolidayFetchException {
+		Key key = new Key(year, state);
+		CompletableFuture<YearHolidays> future = years.get(key);
+		if (future == null) {
+			CompletableFuture<YearHolidays> created = new CompletableFuture<>();
+			future = years.putIfAbsent(key, created);
+			if (future == null) {
+				future = created;
+				load(key, created);
+			}
+		}
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof HolidayFetchException fetchException) {
+				throw fetchException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private void load(Key key, CompletableFuture<YearHolidays> future) {
+		try {
+			Collection<Holiday> holidays = loader.load(key.year(), key.state());
+			BitSet days = new BitSet(367);
+			for (Holiday holiday : holidays) {
+				if (holiday.getDate().getYear() == key.year()) {
+					days.set(holiday.getDate().getDayOfYear());
+				}
+			}
+			future.complete(new YearHolidays(List.copyOf(holidays), days));
+		} catch (Throwable t) {
+			// Every failure has to complete the future, otherwise all threads waiting
+			// for these holidays would block forever
+			years.remove(key, future);
+			future.completeExceptionally(t);
+		}
+	}
+
+	/**
+	 * Loads the holidays of a year and state from their source.
+	 */
+	@FunctionalInterface
+	public interface Loader {
+
+		/**
+		 * Loads the holidays of a year and state.
+		 * 
+		 * @param year  - the year of the holidays.
+		 * @param state - the state of the holidays.
+		 * @return The holidays of the year and state.
+		 * @throws HolidayFetchException if an error occurs while loading.
+		 */
+		Collection<Holiday> load(int year, GermanState state) throws HolidayFetchException;
+	}
+
+	private record Key(int year, GermanState state) {
+	}
+
+	/**
+	 * The holidays of a year, and their days of the year as index.
+	 */
+	private record YearHolidays(List<Holiday> holidays, BitSet days) {
+	}
+
+	/**
+	 * A holiday checker for a single year and state backed by the calendar.
+	 */
+	private class CalendarHolidayChecker implements IHolidayChecker {
+
+		private final int year;
+		private final GermanState state;
+
+		CalendarHolidayChecker(int year, GermanState state) {
+			this.year = year;
+			this.state = state;
+		}
+
+		@Override
+		public boolean isHoliday(LocalDate date) throws HolidayFetchException {
+			if (date.getYear() != year) {
+				return false;
+			}
+			return getYear(year, state).days().get(date.getDayOfYear());
+		}
+
+		@Override
+		public Collection<Holiday> getHolidays() throws HolidayFetchException {
+			return getYear(year, state).holidays();
+		}
+	}
+}
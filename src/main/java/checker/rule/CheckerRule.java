@@ -0,0 +1,75 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A CheckerRule is a single, independent rule a time sheet has to comply with.
+ * Rules are discovered with a {@link java.util.ServiceLoader}, so additional
+ * rules can be registered in {@code META-INF/services/checker.rule.CheckerRule}.
+ * <p>
+ * The {@link RuleChecker} visits all entries, days and the time sheet in a
+ * single pass and calls the visit methods of the enabled rules. A rule declares
+ * the {@link RuleAggregate aggregates} it needs, so that the checker only
+ * computes what the enabled rules use. Rules must be stateless, since a single
+ * instance is shared by all checks.
+ * </p>
+ */
+public interface CheckerRule {
+
+	/**
+	 * Gets the unique name of the rule, used to enable or disable it.
+	 * 
+	 * @return The name of the rule.
+	 */
+	String getName();
+
+	/**
+	 * Gets the position of the rule. The errors of rules with a lower order are
+	 * reported first.
+	 * 
+	 * @return The order of the rule.
+	 */
+	int getOrder();
+
+	/**
+	 * Gets the aggregates this rule needs.
+	 * 
+	 * @return The needed aggregates.
+	 */
+	Set<RuleAggregate> getRequiredAggregates();
+
+	/**
+	 * Visits an entry of the time sheet. Called for every entry in order if
+	 * {@link RuleAggregate#ENTRIES} is required.
+	 * 
+	 * @param entry  - the visited entry.
+	 * @param errors - to add errors to.
+	 */
+	default void visitEntry(EntryContext entry, Collection<CheckerError> errors) {
+	}
+
+	/**
+	 * Visits a day of the time sheet. Called for every day with working entries
+	 * in order if {@link RuleAggregate#DAYS} is required.
+	 * 
+	 * @param day    - the visited day.
+	 * @param errors - to add errors to.
+	 */
+	default void visitDay(DayAggregate day, Collection<CheckerError> errors) {
+	}
+
+	/**
+	 * Visits the time sheet after all entries and days have been visited. Always
+	 * called.
+	 * 
+	 * @param sheet  - the visited time sheet.
+	 * @param errors - to add errors to.
+	 */
+	default void visitSheet(SheetAggregate sheet, Collection<CheckerError> errors) {
+	}
+
+}
@@ -0,0 +1,16 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import java.time.LocalDate;
+
+/**
+ * The summed up times of all working (non-vacation) entries of a single day.
+ * Days without working entries are not visited.
+ * 
+ * @param date           The day.
+ * @param workingMinutes The working time without pauses.
+ * @param shiftMinutes   The time between start and end, including pauses.
+ * @param pauseMinutes   The pause time.
+ */
+public record DayAggregate(LocalDate date, int workingMinutes, int shiftMinutes, int pauseMinutes) {
+}
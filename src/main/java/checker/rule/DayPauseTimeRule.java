@@ -0,0 +1,61 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import data.TimeSpan;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the working time per day meets all legal pause rules.
+ */
+public class DayPauseTimeRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "timePause";
+
+	private static final TimeSpan[][] PAUSE_RULES = { { new TimeSpan(6, 0), new TimeSpan(0, 30) }, { new TimeSpan(9, 0), new TimeSpan(0, 45) } };
+
+	/**
+	 * Returns the legal pause rules. Each rule consists of the working time after
+	 * which the rule applies and the minimum pause time.
+	 * 
+	 * @return A copy of the legal pause rules.
+	 */
+	public static TimeSpan[][] getPauseRules() {
+		return Arrays.stream(PAUSE_RULES).map(TimeSpan[]::clone).toArray(TimeSpan[][]::new);
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 300;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.DAYS);
+	}
+
+	@Override
+	public void visitDay(DayAggregate day, Collection<CheckerError> errors) {
+		for (TimeSpan[] pauseRule : PAUSE_RULES) {
+			// Checks whether the time of the day is greater than the pause rule
+			// "activation" time and the pause time is less than the needed time.
+			if (day.shiftMinutes() > pauseRule[0].toMinutes() && day.pauseMinutes() < pauseRule[1].toMinutes()) {
+				errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_PAUSE, day.date()));
+				break;
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import data.Entry;
+import data.TimeSpan;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the working time of every entry is inside the legal bounds.
+ */
+public class DayTimeBoundsRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "timeOutOfBounds";
+
+	/**
+	 * The legal lower bound of time to start a working day.
+	 */
+	public static final TimeSpan WORKDAY_LOWER_BOUND = new TimeSpan(6, 0);
+	/**
+	 * The legal upper bound of time to end a working day.
+	 */
+	public static final TimeSpan WORKDAY_UPPER_BOUND = new TimeSpan(22, 0);
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 400;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.ENTRIES);
+	}
+
+	@Override
+	public void visitEntry(EntryContext context, Collection<CheckerError> errors) {
+		Entry entry = context.entry();
+		if (entry.getStart().compareTo(WORKDAY_LOWER_BOUND) < 0 || entry.getEnd().compareTo(WORKDAY_UPPER_BOUND) > 0) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, entry.getDate()));
+		}
+	}
+}
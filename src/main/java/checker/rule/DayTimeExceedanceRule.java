@@ -0,0 +1,50 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import data.TimeSpan;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the daily maximum working time was exceeded.
+ */
+public class DayTimeExceedanceRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "dayTimeExceedance";
+
+	/**
+	 * The legal daily maximum working time.
+	 */
+	public static final TimeSpan WORKDAY_MAX_WORKING_TIME = new TimeSpan(10, 0);
+
+	private static final int WORKDAY_MAX_WORKING_MINUTES = WORKDAY_MAX_WORKING_TIME.toMinutes();
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 200;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.DAYS);
+	}
+
+	@Override
+	public void visitDay(DayAggregate day, Collection<CheckerError> errors) {
+		if (day.workingMinutes() > WORKDAY_MAX_WORKING_MINUTES) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.DAY_TIME_EXCEEDANCE, WORKDAY_MAX_WORKING_TIME, day.date()));
+		}
+	}
+}
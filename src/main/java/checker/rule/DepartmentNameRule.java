@@ -0,0 +1,42 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the department name is empty.
+ */
+public class DepartmentNameRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "nameMissing";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 800;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.noneOf(RuleAggregate.class);
+	}
+
+	@Override
+	public void visitSheet(SheetAggregate sheet, Collection<CheckerError> errors) {
+		if (sheet.timeSheet().getProfession().getDepartmentName().isEmpty()) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.NAME_MISSING));
+		}
+	}
+}
@@ -0,0 +1,16 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import data.Entry;
+
+/**
+ * An entry of the time sheet as visited by a {@link CheckerRule}.
+ * 
+ * @param entry    The entry.
+ * @param previous The previous entry in the order of the time sheet, or
+ *                 {@code null} for the first entry.
+ * @param holiday  Whether the date of the entry is a holiday. Only computed if
+ *                 {@link RuleAggregate#HOLIDAYS} is requested, false otherwise.
+ */
+public record EntryContext(Entry entry, Entry previous, boolean holiday) {
+}
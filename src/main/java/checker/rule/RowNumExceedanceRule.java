@@ -0,0 +1,44 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the number of entries exceeds the maximum number of rows of
+ * the template document.
+ */
+public class RowNumExceedanceRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "rowNumExceedance";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 700;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.noneOf(RuleAggregate.class);
+	}
+
+	@Override
+	public void visitSheet(SheetAggregate sheet, Collection<CheckerError> errors) {
+		int rowCount = sheet.timeSheet().getEntries().size();
+		if (rowCount > sheet.maxRowNum()) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.ROWNUM_EXCEEDENCE, sheet.maxRowNum(), rowCount - sheet.maxRowNum()));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+/**
+ * The aggregates a {@link CheckerRule} can request from the
+ * {@link RuleChecker}. Only the aggregates requested by at least one enabled
+ * rule are computed.
+ */
+public enum RuleAggregate {
+	/**
+	 * Every entry of the time sheet, see
+	 * {@link CheckerRule#visitEntry(EntryContext, java.util.Collection)}.
+	 */
+	ENTRIES,
+	/**
+	 * Whether the date of an entry is a holiday, see
+	 * {@link EntryContext#holiday()}. Requires a holiday lookup per entry.
+	 */
+	HOLIDAYS,
+	/**
+	 * The summed up times of every day, see
+	 * {@link CheckerRule#visitDay(DayAggregate, java.util.Collection)}.
+	 */
+	DAYS,
+	/**
+	 * The summed up times of the whole time sheet, see
+	 * {@link SheetAggregate#totalWorkingMinutes()}.
+	 */
+	TOTALS
+}
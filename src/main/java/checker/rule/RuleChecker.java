@@ -0,0 +1,143 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.CheckerException;
+import checker.CheckerReturn;
+import checker.ExportType;
+import checker.IChecker;
+import checker.holiday.GermanState;
+import checker.holiday.HolidayCalendar;
+import checker.holiday.HolidayFetchException;
+import checker.holiday.IHolidayChecker;
+import data.Entry;
+import data.TimeSheet;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A RuleChecker is an {@link IChecker} composed of independent
+ * {@link CheckerRule CheckerRules}. All rules are evaluated in a single pass
+ * over the entries of the time sheet, and only the {@link RuleAggregate
+ * aggregates} required by the rules are computed. Since the entries are sorted
+ * by date, the entries of a day are adjacent, so a day is visited as soon as its
+ * last entry is reached.
+ */
+public class RuleChecker implements IChecker {
+
+	private final TimeSheet timeSheet;
+	private final int maxRowNum;
+	private final GermanState state;
+	private final RuleSet rules;
+
+	private final List<CheckerError> errors = new ArrayList<>();
+
+	/**
+	 * Constructs a new {@link RuleChecker} instance.
+	 * 
+	 * @param timeSheet  - to be checked.
+	 * @param exportType - the export type, which determines the maximum number of
+	 *                   rows.
+	 * @param state      - of Germany whose holidays are used.
+	 * @param rules      - the rules to check.
+	 */
+	public RuleChecker(TimeSheet timeSheet, ExportType exportType, GermanState state, RuleSet rules) {
+		this.timeSheet = timeSheet;
+		this.maxRowNum = exportType.getMaxEntries();
+		this.state = state;
+		this.rules = rules;
+	}
+
+	@Override
+	public CheckerReturn check() throws CheckerException {
+		errors.clear();
+
+		List<CheckerRule> ruleList = rules.getRules();
+		List<List<CheckerError>> ruleErrors = new ArrayList<>();
+		for (int i = 0; i < ruleList.size(); i++) {
+			ruleErrors.add(new ArrayList<>());
+		}
+
+		Set<RuleAggregate> aggregates = rules.getRequiredAggregates();
+		boolean visitEntries = aggregates.contains(RuleAggregate.ENTRIES);
+		boolean computeHolidays = aggregates.contains(RuleAggregate.HOLIDAYS);
+		boolean computeDays = aggregates.contains(RuleAggregate.DAYS);
+		boolean computeTotals = aggregates.contains(RuleAggregate.TOTALS);
+
+		int totalWorkingTime = 0;
+		int totalVacationTime = 0;
+		if (visitEntries || computeHolidays || computeDays || computeTotals) {
+			IHolidayChecker holidayChecker = computeHolidays ? HolidayCalendar.getDefault().getChecker(timeSheet.getYear(), state) : null;
+			List<Entry> entries = timeSheet.getEntries();
+
+			// Aggregates of the working (non-vacation) entries of the current day
+			boolean dayHasWork = false;
+			int dayWorkingTime = 0;
+			int dayShiftTime = 0;
+			int dayPause = 0;
+
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				LocalDate date = entry.getDate();
+				int shift = entry.getEnd().toMinutes() - entry.getStart().toMinutes();
+				int pause = entry.getPause().toMinutes();
+
+				if (entry.isVacation()) {
+					totalVacationTime += shift - pause;
+				} else {
+					totalWorkingTime += shift - pause;
+					dayHasWork = true;
+					dayWorkingTime += shift - pause;
+					dayShiftTime += shift;
+					dayPause += pause;
+				}
+
+				if (visitEntries) {
+					EntryContext context = new EntryContext(entry, i > 0 ? entries.get(i - 1) : null, computeHolidays && isHoliday(holidayChecker, date));
+					for (int r = 0; r < ruleList.size(); r++) {
+						ruleList.get(r).visitEntry(context, ruleErrors.get(r));
+					}
+				}
+
+				boolean lastOfDay = i + 1 == entries.size() || !entries.get(i + 1).getDate().equals(date);
+				if (lastOfDay) {
+					if (computeDays && dayHasWork) {
+						DayAggregate day = new DayAggregate(date, dayWorkingTime, dayShiftTime, dayPause);
+						for (int r = 0; r < ruleList.size(); r++) {
+							ruleList.get(r).visitDay(day, ruleErrors.get(r));
+						}
+					}
+					dayHasWork = false;
+					dayWorkingTime = 0;
+					dayShiftTime = 0;
+					dayPause = 0;
+				}
+			}
+		}
+
+		SheetAggregate sheet = new SheetAggregate(timeSheet, maxRowNum, computeTotals ? totalWorkingTime : 0, computeTotals ? totalVacationTime : 0);
+		for (int r = 0; r < ruleList.size(); r++) {
+			ruleList.get(r).visitSheet(sheet, ruleErrors.get(r));
+			errors.addAll(ruleErrors.get(r));
+		}
+
+		return errors.isEmpty() ? CheckerReturn.VALID : CheckerReturn.INVALID;
+	}
+
+	@Override
+	public Collection<CheckerError> getErrors() {
+		return new ArrayList<>(errors);
+	}
+
+	private static boolean isHoliday(IHolidayChecker holidayChecker, LocalDate date) throws CheckerException {
+		try {
+			return holidayChecker.isHoliday(date);
+		} catch (HolidayFetchException e) {
+			throw new CheckerException(e.getMessage());
+		}
+	}
+}
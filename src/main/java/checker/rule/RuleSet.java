@@ -0,0 +1,118 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import i18n.ResourceHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A RuleSet is an immutable, ordered selection of {@link CheckerRule
+ * CheckerRules}. The rules are ordered by their {@link CheckerRule#getOrder()
+ * order}, rules with the same order by their name.
+ */
+public final class RuleSet {
+
+	private static final RuleSet ALL = of(ServiceLoader.load(CheckerRule.class, CheckerRule.class.getClassLoader()).stream().map(ServiceLoader.Provider::get)
+			.toList());
+
+	private final List<CheckerRule> rules;
+
+	private RuleSet(List<CheckerRule> rules) {
+		this.rules = rules;
+	}
+
+	/**
+	 * Returns all rules registered with the {@link ServiceLoader}.
+	 * 
+	 * @return All registered rules.
+	 */
+	public static RuleSet all() {
+		return ALL;
+	}
+
+	/**
+	 * Returns a rule set of the given rules.
+	 * 
+	 * @param rules - the rules of the set.
+	 * @return A rule set of the given rules.
+	 * @throws IllegalArgumentException if two rules have the same name.
+	 */
+	public static RuleSet of(Collection<? extends CheckerRule> rules) {
+		Set<String> names = new HashSet<>();
+		for (CheckerRule rule : rules) {
+			if (!names.add(rule.getName())) {
+				throw new IllegalArgumentException(ResourceHandler.getMessage("error.rule.duplicateRule", rule.getName()));
+			}
+		}
+
+		List<CheckerRule> sorted = new ArrayList<>(rules);
+		sorted.sort(Comparator.comparingInt(CheckerRule::getOrder).thenComparing(CheckerRule::getName));
+		return new RuleSet(List.copyOf(sorted));
+	}
+
+	/**
+	 * Returns a rule set without the rules of the given names.
+	 * 
+	 * @param names - the names of the rules to disable.
+	 * @return This rule set without the given rules.
+	 * @throws IllegalArgumentException if a name is not part of this set.
+	 */
+	public RuleSet without(String... names) {
+		List<String> disabled = requireKnown(names);
+		return filter(rule -> !disabled.contains(rule.getName()));
+	}
+
+	/**
+	 * Returns a rule set only containing the rules of the given names.
+	 * 
+	 * @param names - the names of the rules to keep enabled.
+	 * @return This rule set restricted to the given rules.
+	 * @throws IllegalArgumentException if a name is not part of this set.
+	 */
+	public RuleSet only(String... names) {
+		List<String> enabled = requireKnown(names);
+		return filter(rule -> enabled.contains(rule.getName()));
+	}
+
+	/**
+	 * Gets the rules of this set in their order.
+	 * 
+	 * @return The rules of this set.
+	 */
+	public List<CheckerRule> getRules() {
+		return rules;
+	}
+
+	/**
+	 * Gets the aggregates required by any of the rules of this set.
+	 * 
+	 * @return The required aggregates.
+	 */
+	public Set<RuleAggregate> getRequiredAggregates() {
+		Set<RuleAggregate> aggregates = EnumSet.noneOf(RuleAggregate.class);
+		rules.forEach(rule -> aggregates.addAll(rule.getRequiredAggregates()));
+		return aggregates;
+	}
+
+	private RuleSet filter(Predicate<CheckerRule> predicate) {
+		return new RuleSet(rules.stream().filter(predicate).toList());
+	}
+
+	private List<String> requireKnown(String... names) {
+		for (String name : names) {
+			if (rules.stream().noneMatch(rule -> rule.getName().equals(name))) {
+				throw new IllegalArgumentException(ResourceHandler.getMessage("error.rule.unknownRule", name));
+			}
+		}
+		return Arrays.asList(names);
+	}
+}
@@ -0,0 +1,20 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import data.TimeSheet;
+
+/**
+ * The time sheet and its summed up times as visited by a {@link CheckerRule}.
+ * 
+ * @param timeSheet            The checked time sheet.
+ * @param maxRowNum            The maximum number of rows of the export
+ *                             template.
+ * @param totalWorkingMinutes  The working time of all working entries. Only
+ *                             computed if {@link RuleAggregate#TOTALS} is
+ *                             requested, 0 otherwise.
+ * @param totalVacationMinutes The time of all vacation entries. Only computed
+ *                             if {@link RuleAggregate#TOTALS} is requested, 0
+ *                             otherwise.
+ */
+public record SheetAggregate(TimeSheet timeSheet, int maxRowNum, int totalWorkingMinutes, int totalVacationMinutes) {
+}
@@ -0,0 +1,45 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import data.Entry;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the times of entries on the same day overlap.
+ */
+public class TimeOverlapRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "timeOverlap";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 600;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.ENTRIES);
+	}
+
+	@Override
+	public void visitEntry(EntryContext context, Collection<CheckerError> errors) {
+		Entry previous = context.previous();
+		Entry entry = context.entry();
+		if (previous != null && previous.getDate().equals(entry.getDate()) && previous.getEnd().compareTo(entry.getStart()) > 0) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_OVERLAP, previous.getDate()));
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import data.TimeSheet;
+import data.TimeSpan;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether the total maximum working time was exceeded, taking vacation
+ * and transferred time into account.
+ */
+public class TotalTimeExceedanceRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "totalTimeExceedance";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 100;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.TOTALS);
+	}
+
+	@Override
+	public void visitSheet(SheetAggregate sheet, Collection<CheckerError> errors) {
+		TimeSheet timeSheet = sheet.timeSheet();
+		// Legal maximum working time per month
+		TimeSpan maxWorkingTime = timeSheet.getProfession().getMaxWorkingTime();
+
+		// Vacation and transfer corrected time
+		TimeSpan correctedMaxWorkingTime = maxWorkingTime.add(timeSheet.getSuccTransfer()).subtract(timeSheet.getPredTransfer())
+				.subtract(TimeSpan.ofMinutes(sheet.totalVacationMinutes()));
+
+		int difference = sheet.totalWorkingMinutes() - correctedMaxWorkingTime.toMinutes();
+		if (difference > 0) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TOTAL_TIME_EXCEEDANCE, maxWorkingTime, TimeSpan.ofMinutes(difference)));
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Checks whether all entries are on valid working days, which are neither
+ * sundays nor holidays.
+ */
+public class ValidWorkingDaysRule implements CheckerRule {
+
+	/**
+	 * The name of this rule
+	 */
+	public static final String NAME = "validWorkingDays";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getOrder() {
+		return 500;
+	}
+
+	@Override
+	public Set<RuleAggregate> getRequiredAggregates() {
+		return EnumSet.of(RuleAggregate.ENTRIES, RuleAggregate.HOLIDAYS);
+	}
+
+	@Override
+	public void visitEntry(EntryContext context, Collection<CheckerError> errors) {
+		LocalDate date = context.entry().getDate();
+		if (date.getDayOfWeek().equals(DayOfWeek.SUNDAY)) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_SUNDAY, date));
+		} else if (context.holiday()) {
+			errors.add(new CheckerError(MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY, date));
+		}
+	}
+}
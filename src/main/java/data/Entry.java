@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package data;
 
 import i18n.ResourceHandler;
@@ -38,7 +38,7 @@ public class Entry implements Comparable<Entry> {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.entry.startGreaterThanEnd"));
 		}
 
-		if (!pause.equals(new TimeSpan(0, 0)) && vacation) {
+		if (pause.toMinutes() != 0 && vacation) {
 			throw new IllegalArgumentException("Vacation entries may not contain a pause.");
 		}
 
@@ -111,12 +111,22 @@ public class Entry implements Comparable<Entry> {
 	 * @return The working time
 	 */
 	public TimeSpan getWorkingTime() {
-		TimeSpan workingTime = this.getEnd();
-
-		workingTime = workingTime.subtract(this.getStart());
-		workingTime = workingTime.subtract(this.getPause());
+		return TimeSpan.ofMinutes(getWorkingMinutes());
+	}
 
-		return workingTime;
+	/**
+	 * Calculates the working time in minutes, without creating a
+	 * {@link TimeSpan}.
+	 * 
+	 * @return The working time in minutes
+	 * @see #getWorkingTime()
+	 */
+	public int getWorkingMinutes() {
+		int workingMinutes = end.toMinutes() - start.toMinutes() - pause.toMinutes();
+		if (workingMinutes < 0) {
+			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.subtrahendGreaterThanMinuend"));
+		}
+		return workingMinutes;
 	}
 
 	/**
@@ -0,0 +1,130 @@
+/* Licensed under MIT 2026. */
+package data;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats times as {@code HH:MM} and dates as {@code dd.MM.yy} or
+ * {@code dd.MM.yyyy} for the generated documents and the user interface. <br>
+ * <br>
+ * The digits are written directly into a character array, so formatting a
+ * value only allocates the resulting {@link String}. The output is the same as
+ * with {@code "%02d:%02d".formatted(hours, minutes)} and
+ * {@link DateTimeFormatter#ofPattern(String)} respectively. Years outside of
+ * {@code 1} to {@code 9999} are formatted by a cached {@link DateTimeFormatter}.
+ */
+public final class TimeFormat {
+
+	/**
+	 * The default separator between hours and minutes
+	 */
+	public static final String TIME_SEPARATOR = ":";
+
+	private static final char DATE_SEPARATOR = '.';
+	private static final int MIN_FAST_YEAR = 1;
+	private static final int MAX_FAST_YEAR = 9999;
+	private static final DateTimeFormatter DATE_FORMATTER_2_DIGITS = DateTimeFormatter.ofPattern("dd.MM.yy");
+	private static final DateTimeFormatter DATE_FORMATTER_4_DIGITS = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+	private TimeFormat() {
+		// Don't allow instances of this class
+	}
+
+	/**
+	 * Formats a time as {@code HH:MM}.
+	 *
+	 * @param hours   - the hours, padded to at least two digits.
+	 * @param minutes - the minutes, padded to at least two digits.
+	 * @return The formatted time.
+	 */
+	public static String formatTime(int hours, int minutes) {
+		return formatTime(hours, minutes, TIME_SEPARATOR);
+	}
+
+	/**
+	 * Formats a time as hours and minutes with a custom separator.
+	 *
+	 * @param hours     - the hours, padded to at least two digits.
+	 * @param minutes   - the minutes, padded to at least two digits.
+	 * @param separator - the separator between hours and minutes.
+	 * @return The formatted time.
+	 */
+	public static String formatTime(int hours, int minutes, String separator) {
+		char[] chars = new char[paddedLength(hours) + separator.length() + paddedLength(minutes)];
+		int index = writePadded(chars, 0, hours);
+		separator.getChars(0, separator.length(), chars, index);
+		writePadded(chars, index + separator.length(), minutes);
+		return new String(chars);
+	}
+
+	/**
+	 * Formats a number padded with zeros to at least two digits, like
+	 * {@code "%02d".formatted(value)}.
+	 *
+	 * @param value - the number to format.
+	 * @return The formatted number.
+	 */
+	public static String formatTwoDigits(int value) {
+		char[] chars = new char[paddedLength(value)];
+		writePadded(chars, 0, value);
+		return new String(chars);
+	}
+
+	/**
+	 * Formats a date as {@code dd.MM.yy} or {@code dd.MM.yyyy}.
+	 *
+	 * @param date          - the date to format.
+	 * @param fourDigitYear - whether the full year is written instead of its last
+	 *                      two digits.
+	 * @return The formatted date.
+	 */
+	public static String formatDate(LocalDate date, boolean fourDigitYear) {
+		int year = date.getYear();
+		if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+			return date.format(fourDigitYear ? DATE_FORMATTER_4_DIGITS : DATE_FORMATTER_2_DIGITS);
+		}
+
+		char[] chars = new char[fourDigitYear ? 10 : 8];
+		writeDigits(chars, 0, date.getDayOfMonth(), 2);
+		chars[2] = DATE_SEPARATOR;
+		writeDigits(chars, 3, date.getMonthValue(), 2);
+		chars[5] = DATE_SEPARATOR;
+		if (fourDigitYear) {
+			writeDigits(chars, 6, year, 4);
+		} else {
+			writeDigits(chars, 6, year % 100, 2);
+		}
+		return new String(chars);
+	}
+
+	private static int paddedLength(int value) {
+		if (value < 0) {
+			// Negative numbers are at least two characters long, the sign included
+			return Integer.toString(value).length();
+		}
+		int length = 2;
+		for (int remaining = value / 100; remaining > 0; remaining /= 10) {
+			length++;
+		}
+		return length;
+	}
+
+	private static int writePadded(char[] chars, int index, int value) {
+		if (value < 0) {
+			String digits = Integer.toString(value);
+			digits.getChars(0, digits.length(), chars, index);
+			return index + digits.length();
+		}
+		int length = paddedLength(value);
+		writeDigits(chars, index, value, length);
+		return index + length;
+	}
+
+	private static void writeDigits(char[] chars, int index, int value, int length) {
+		for (int i = index + length - 1; i >= index; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/* Licensed under MIT 2026. */
+package data;
+
+/**
+ * Scans times consisting of hours, a separator and minutes, like {@code 9:30}.
+ * The input is read character by character in a single pass, without regular
+ * expressions, splitting or boxing, so scanning does not allocate. <br>
+ * <br>
+ * A <code>TimeScanner</code> is configured once with the accepted number of
+ * digits and is immutable afterwards, so it can be shared by multiple threads.
+ * Only the ASCII digits {@code 0} to {@code 9} are accepted, signs and
+ * whitespace are not.
+ */
+public final class TimeScanner {
+
+	/**
+	 * Returned by {@link #scan(CharSequence, String)} if the input is not a valid
+	 * time
+	 */
+	public static final int NO_MATCH = -1;
+
+	private static final int MINUTES_PER_HOUR = 60;
+
+	private final int maxHourDigits;
+	private final int minMinuteDigits;
+	private final int maxMinuteDigits;
+	private final int maxMinute;
+
+	/**
+	 * Creates a new <code>TimeScanner</code>. At least one hour digit is always
+	 * required.
+	 *
+	 * @param maxHourDigits   Maximum number of hour digits
+	 * @param minMinuteDigits Minimum number of minute digits
+	 * @param maxMinuteDigits Maximum number of minute digits
+	 * @param maxMinute       Largest accepted value of the minutes
+	 */
+	public TimeScanner(int maxHourDigits, int minMinuteDigits, int maxMinuteDigits, int maxMinute) {
+		if (maxHourDigits < 1 || minMinuteDigits < 1 || maxMinuteDigits < minMinuteDigits || maxMinute < 0) {
+			throw new IllegalArgumentException("Invalid time format.");
+		}
+		this.maxHourDigits = maxHourDigits;
+		this.minMinuteDigits = minMinuteDigits;
+		this.maxMinuteDigits = maxMinuteDigits;
+		this.maxMinute = maxMinute;
+	}
+
+	/**
+	 * Scan a time. The whole input has to be a time, there may be no characters
+	 * before or after it.
+	 *
+	 * @param text      Text to scan
+	 * @param separator Non-empty separator between the hours and the minutes
+	 * @return The total number of minutes of the time, or {@link #NO_MATCH} if the
+	 *         text is not a valid time or its total number of minutes does not fit
+	 *         into an <code>int</code>
+	 */
+	public int scan(CharSequence text, String separator) {
+		int length = text.length();
+		int index = 0;
+
+		long hours = 0;
+		while (index < length && index < maxHourDigits && isDigit(text.charAt(index))) {
+			hours = hours * 10 + (text.charAt(index) - '0');
+			if (hours > Integer.MAX_VALUE / MINUTES_PER_HOUR) {
+				return NO_MATCH;
+			}
+			index++;
+		}
+		if (index == 0 || !startsWith(text, separator, index)) {
+			return NO_MATCH;
+		}
+		index += separator.length();
+
+		int minuteStart = index;
+		int minutes = 0;
+		while (index < length && isDigit(text.charAt(index))) {
+			if (index - minuteStart == maxMinuteDigits) {
+				return NO_MATCH;
+			}
+			minutes = minutes * 10 + (text.charAt(index) - '0');
+			index++;
+		}
+		if (index != length || index - minuteStart < minMinuteDigits || minutes > maxMinute) {
+			return NO_MATCH;
+		}
+
+		long total = hours * MINUTES_PER_HOUR + minutes;
+		return total > Integer.MAX_VALUE ? NO_MATCH : (int) total;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean startsWith(CharSequence text, String prefix, int offset) {
+		if (prefix.isEmpty() || text.length() - offset < prefix.length()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (text.charAt(offset + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
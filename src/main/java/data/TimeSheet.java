@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package data;
 
 import i18n.ResourceHandler;
@@ -128,15 +128,15 @@ public class TimeSheet {
 	 * @return The overall, summed up working time.
 	 */
 	public TimeSpan getTotalWorkTime() {
-		TimeSpan totalWorkTime = new TimeSpan(0, 0);
+		int totalWorkTime = 0;
 
 		for (Entry entry : this.getEntries()) {
 			if (!entry.isVacation()) {
-				totalWorkTime = totalWorkTime.add(entry.getWorkingTime());
+				totalWorkTime += entry.getWorkingMinutes();
 			}
 		}
 
-		return totalWorkTime;
+		return TimeSpan.ofMinutes(totalWorkTime);
 	}
 
 	/**
@@ -145,15 +145,15 @@ public class TimeSheet {
 	 * @return The overall, summed up vacation time.
 	 */
 	public TimeSpan getTotalVacationTime() {
-		TimeSpan totalVacationTime = new TimeSpan(0, 0);
+		int totalVacationTime = 0;
 
 		for (Entry entry : this.getEntries()) {
 			if (entry.isVacation()) {
-				totalVacationTime = totalVacationTime.add(entry.getWorkingTime());
+				totalVacationTime += entry.getWorkingMinutes();
 			}
 		}
 
-		return totalVacationTime;
+		return TimeSpan.ofMinutes(totalVacationTime);
 	}
 
 	@Override
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package data;
 
 import i18n.ResourceHandler;
@@ -6,6 +6,12 @@ import i18n.ResourceHandler;
 /**
  * An immutable time span consisting of hours and minutes as well as basic
  * arithmetic for it.
+ * <p>
+ * Internally, a time span is stored as its total number of minutes. Instances
+ * of up to {@value #CACHED_HOURS} hours are shared, so {@link #ofMinutes(int)}
+ * and the arithmetic methods do not allocate for common values. The primitive
+ * {@link #toMinutes()} and {@link #plusMinutes(int)} can be used to aggregate
+ * time spans without creating intermediate instances.
  */
 public class TimeSpan implements Comparable<TimeSpan> {
 
@@ -13,8 +19,18 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	public static final int MIN_MINUTE = 0;
 	public static final int MAX_MINUTE = 59;
 
-	private final int minute;
-	private final int hour;
+	private static final int MINUTES_PER_HOUR = MAX_MINUTE + 1;
+	private static final int CACHED_HOURS = 24;
+	private static final TimeSpan[] CACHE = new TimeSpan[CACHED_HOURS * MINUTES_PER_HOUR + 1];
+	private static final TimeScanner PARSE_SCANNER = new TimeScanner(Integer.MAX_VALUE, 1, 2, MAX_MINUTE);
+
+	static {
+		for (int i = 0; i < CACHE.length; i++) {
+			CACHE[i] = new TimeSpan(i);
+		}
+	}
+
+	private final int minutes;
 
 	/**
 	 * Constructs a new TimeSpan instance.
@@ -23,13 +39,46 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @param minute - Number of minutes between 0 and 59
 	 */
 	public TimeSpan(int hour, int minute) {
+		this(toMinutes(hour, minute));
+	}
+
+	private TimeSpan(int minutes) {
+		this.minutes = minutes;
+	}
+
+	/**
+	 * Gets a TimeSpan instance for the given hours and minutes. Unlike the
+	 * constructor, this reuses a shared instance for common values.
+	 * 
+	 * @param hour   - Non-negative amount of hours
+	 * @param minute - Number of minutes between 0 and 59
+	 * @return The {@link TimeSpan} representing the given hours and minutes
+	 */
+	public static TimeSpan of(int hour, int minute) {
+		return ofMinutes(toMinutes(hour, minute));
+	}
+
+	/**
+	 * Gets a TimeSpan instance for the given total number of minutes. Common
+	 * values are shared instead of being allocated.
+	 * 
+	 * @param minutes - Non-negative total number of minutes
+	 * @return The {@link TimeSpan} representing the given minutes
+	 */
+	public static TimeSpan ofMinutes(int minutes) {
+		if (minutes < 0) {
+			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.timeNegative"));
+		}
+		return minutes < CACHE.length ? CACHE[minutes] : new TimeSpan(minutes);
+	}
+
+	private static int toMinutes(int hour, int minute) {
 		if (hour < MIN_HOUR || minute < MIN_MINUTE) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.timeNegative"));
 		} else if (minute > MAX_MINUTE) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.minuteOverUpperBound", MAX_MINUTE));
 		}
-		this.minute = minute;
-		this.hour = hour;
+		return Math.addExact(Math.multiplyExact(hour, MINUTES_PER_HOUR), minute);
 	}
 
 	/**
@@ -38,7 +87,7 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return - The minutes.
 	 */
 	public int getMinute() {
-		return minute;
+		return minutes % MINUTES_PER_HOUR;
 	}
 
 	/**
@@ -47,7 +96,26 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return - The hours.
 	 */
 	public int getHour() {
-		return hour;
+		return minutes / MINUTES_PER_HOUR;
+	}
+
+	/**
+	 * Gets the total number of minutes of a TimeSpan.
+	 * 
+	 * @return - The hours and minutes in minutes.
+	 */
+	public int toMinutes() {
+		return minutes;
+	}
+
+	/**
+	 * Adds this TimeSpan to a number of minutes without creating a new instance.
+	 * 
+	 * @param addend - Number of minutes this TimeSpan should be added to
+	 * @return The sum in minutes
+	 */
+	public int plusMinutes(int addend) {
+		return minutes + addend;
 	}
 
 	/**
@@ -57,11 +125,7 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return The {@link TimeSpan} representing the sum
 	 */
 	public TimeSpan add(TimeSpan addend) {
-		int hourSum = this.hour + addend.getHour();
-		int minuteSum = this.minute + addend.getMinute();
-		int carry = minuteSum / (MAX_MINUTE + 1);
-
-		return new TimeSpan(hourSum + carry, minuteSum % (MAX_MINUTE + 1));
+		return ofMinutes(Math.addExact(this.minutes, addend.minutes));
 	}
 
 	/**
@@ -73,14 +137,11 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 *                                  minuend
 	 */
 	public TimeSpan subtract(TimeSpan subtrahend) throws IllegalArgumentException {
-		if (this.compareTo(subtrahend) < 0) {
+		if (this.minutes < subtrahend.minutes) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.subtrahendGreaterThanMinuend"));
 		}
 
-		int hourDiff = this.hour - subtrahend.getHour();
-		int minuteDiff = this.minute - subtrahend.getMinute();
-
-		return new TimeSpan(hourDiff - ((MAX_MINUTE - minuteDiff) / (MAX_MINUTE + 1)), ((MAX_MINUTE + 1) + minuteDiff) % (MAX_MINUTE + 1));
+		return ofMinutes(this.minutes - subtrahend.minutes);
 	}
 
 	/**
@@ -90,37 +151,22 @@ public class TimeSpan implements Comparable<TimeSpan> {
 	 * @return A {@link TimeSpan} representing the input string
 	 */
 	public static TimeSpan parse(String s) {
-		if (!s.matches(ResourceHandler.getMessage("locale.timespan.parseRegex"))) {
+		int minutes = PARSE_SCANNER.scan(s, ResourceHandler.getMessage("locale.timespan.separatorHourMinute"));
+		if (minutes == TimeScanner.NO_MATCH) {
 			throw new IllegalArgumentException(ResourceHandler.getMessage("error.timespan.invalidParseInput"));
 		}
-		String[] splittedString = s.split(ResourceHandler.getMessage("locale.timespan.separatorHourMinute"));
-
-		int hours;
-		int minutes;
-		try {
-			hours = Integer.parseInt(splittedString[0]);
-			minutes = Integer.parseInt(splittedString[1]);
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException(e.getMessage());
-		}
 
-		return new TimeSpan(hours, minutes);
+		return ofMinutes(minutes);
 	}
 
 	@Override
 	public String toString() {
-		return ResourceHandler.getMessage("locale.timespan.stringFormat", hour, minute);
+		return TimeFormat.formatTime(getHour(), getMinute(), ResourceHandler.getMessage("locale.timespan.separatorHourMinute"));
 	}
 
 	@Override
 	public int compareTo(TimeSpan other) {
-		if (this.hour > other.getHour()) {
-			return 1;
-		} else if (this.hour == other.getHour()) {
-			return Integer.compare(this.minute, other.getMinute());
-		} else {
-			return -1;
-		}
+		return Integer.compare(this.minutes, other.minutes);
 	}
 
 	@Override
@@ -129,7 +175,12 @@ public class TimeSpan implements Comparable<TimeSpan> {
 			return false;
 		}
 
-		return this.hour == otherTimeSpan.hour && this.minute == otherTimeSpan.minute;
+		return this.minutes == otherTimeSpan.minutes;
+	}
+
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(minutes);
 	}
 
 }
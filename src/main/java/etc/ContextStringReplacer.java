@@ -1,8 +1,6 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package etc;
 
-import i18n.ResourceHandler;
-
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -68,6 +66,11 @@ import java.util.function.Consumer;
  * assert (s.equals("Hellooo W0rld"));
  * </pre>
  * 
+ * The substrings are found by a {@link SubstringMatcher}. If the same
+ * substrings are replaced in many strings, the matcher can be compiled once and
+ * passed instead of the collection. Edits are collected in a buffer, so a full
+ * replacement pass takes linear time in the length of the string. <br>
+ * <br>
  * Warning: <code>ContextStringReplacerIterator</code> and
  * <code>ContextStringReplacement</code> objects are single-use only and should
  * not be stored. <br>
@@ -85,25 +88,46 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 	 * @param replace Collection of substrings to replace
 	 */
 	public ContextStringReplacer(String string, Collection<String> replace) {
-		for (String substring : replace) {
-			if (substring.isEmpty())
-				throw new IllegalArgumentException(ResourceHandler.getMessage("error.contextstringreplacer.emptyReplaceString"));
-		}
+		this(string, new SubstringMatcher(replace));
+	}
+
+	/**
+	 * Create a new <code>ContextStringReplacer</code> for a string and a compiled
+	 * set of strings to replace.
+	 * 
+	 * @param string  String that will be edited
+	 * @param matcher Matcher of the substrings to replace
+	 */
+	public ContextStringReplacer(String string, SubstringMatcher matcher) {
+		this.source = string;
+		this.matcher = matcher;
 
-		this.string = string;
-		this.replace = replace;
+		edited = new StringBuilder();
+		copied = 0;
 
 		currentIterator = null;
 	}
 
 	/**
-	 * Edited string; this variable is changed when replacing substrings
+	 * String the current iteration searches in; it is only changed when a new
+	 * iterator is created
 	 */
-	private String string;
+	private String source;
 	/**
-	 * Collection of substrings to replace
+	 * Edited string up to <code>copied</code>; this buffer is changed when
+	 * replacing substrings. The edited string consists of this buffer followed by
+	 * the unedited rest of <code>source</code>.
 	 */
-	private final Collection<String> replace;
+	private final StringBuilder edited;
+	/**
+	 * Index in <code>source</code> up to which the string is contained in
+	 * <code>edited</code>
+	 */
+	private int copied;
+	/**
+	 * Matcher of the substrings to replace
+	 */
+	private final SubstringMatcher matcher;
 
 	/**
 	 * Iterator issued to the caller last
@@ -116,7 +140,10 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 	 * @return Edited string
 	 */
 	public String getString() {
-		return string;
+		if (copied == 0)
+			return source;
+
+		return new StringBuilder(edited.length() + source.length() - copied).append(edited).append(source, copied, source.length()).toString();
 	}
 
 	@Override
@@ -124,6 +151,11 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		if (currentIterator != null)
 			currentIterator.invalidate();
 
+		// a new iterator searches the edited string from the beginning
+		source = getString();
+		edited.setLength(0);
+		copied = 0;
+
 		currentIterator = new ContextStringReplacerIterator();
 		return currentIterator;
 	}
@@ -148,6 +180,26 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		return replacer.getString();
 	}
 
+	/**
+	 * Call <code>action</code> for every occurence of every substring of
+	 * <code>matcher</code> and return the result after all replacements
+	 * 
+	 * @param string  String to edit
+	 * @param matcher Matcher of the substrings to replace
+	 * @param action  Action to be called with the found substrings, specifies the
+	 *                replacement
+	 * 
+	 * @return Edited string
+	 */
+	public static String replace(String string, SubstringMatcher matcher,
+			Consumer<? super ContextStringReplacer.ContextStringReplacerIterator.ContextStringReplacement> action) {
+		ContextStringReplacer replacer = new ContextStringReplacer(string, matcher);
+
+		replacer.forEach(action);
+
+		return replacer.getString();
+	}
+
 	/**
 	 * Iterator for the <code>ContextStringReplacer</code> class. Provides the
 	 * <code>ContextStringReplacement</code> objects for each found occurence of a
@@ -169,8 +221,8 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 		}
 
 		/**
-		 * Current index during the replacement. Everything before this index is already
-		 * edited.
+		 * Current index in <code>source</code> during the replacement. Everything before
+		 * this index is already edited.
 		 */
 		private int currentIndex;
 
@@ -217,39 +269,18 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 			if (currentReplacement != null)
 				currentReplacement.invalidate();
 
-			int nextIndex;
-			String nextSubstring;
-
-			search: {
-				// search for the next index going from currentIndex
-				for (int i = currentIndex; i < string.length(); i++) {
-					// for each index, check if any replace substring matches
-					for (String substring : replace) {
-						// but only if we have enough characters left to match
-						if (string.length() - i >= substring.length()) {
-							// check if the substring matches with substring
-							String subString = string.substring(i, i + substring.length());
-							if (subString.equals(substring)) {
-								// found next match
-								nextIndex = i;
-								nextSubstring = substring;
-
-								// continue after the replacement next time
-								currentIndex = nextIndex + 1;
-
-								break search;
-							}
-						}
-					}
-				}
-
+			SubstringMatcher.Match match = matcher.find(source, currentIndex);
+			if (match == null) {
 				// unnecessary to search the string again
-				currentIndex = string.length();
+				currentIndex = source.length();
 
 				return null;
 			}
 
-			nextReplacement = new ContextStringReplacement(nextIndex, nextSubstring);
+			// continue after the replacement next time
+			currentIndex = match.index() + 1;
+
+			nextReplacement = new ContextStringReplacement(match.index(), matcher.getSubstring(match.substring()));
 			return nextReplacement;
 		}
 
@@ -300,7 +331,7 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 			/**
 			 * Create a new ContextStringReplacement for a found substring
 			 * 
-			 * @param index     Index of the found substring in the string
+			 * @param index     Index of the found substring in the unedited string
 			 * @param substring Found substring
 			 */
 			public ContextStringReplacement(int index, String substring) {
@@ -311,7 +342,7 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 			}
 
 			/**
-			 * Index of the found substring
+			 * Index of the found substring in <code>source</code>
 			 */
 			private final int index;
 			/**
@@ -342,7 +373,7 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				return index;
+				return edited.length() + index - copied;
 			}
 
 			/**
@@ -368,10 +399,11 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
+				// everything after the found substring is unedited
 				int start = index + substring.length();
-				int end = Math.min(start + size, string.length());
+				int end = Math.min(start + size, source.length());
 
-				return string.substring(start, end);
+				return source.substring(start, end);
 			}
 
 			/**
@@ -383,10 +415,13 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				int end = index;
-				int start = Math.max(end - size, 0);
+				// the lookbehind may reach from the unedited part into the edited buffer
+				int unedited = index - copied;
+				if (size <= unedited)
+					return source.substring(index - size, index);
 
-				return string.substring(start, end);
+				int fromEdited = Math.min(size - unedited, edited.length());
+				return edited.substring(edited.length() - fromEdited) + source.substring(copied, index);
 			}
 
 			/**
@@ -414,11 +449,9 @@ public class ContextStringReplacer implements Iterable<ContextStringReplacer.Con
 				if (invalid)
 					throw new IllegalStateException();
 
-				String before = string.substring(0, index);
-				String after = string.substring(index + substring.length());
-
-				string = before + replacement + after;
-				currentIndex = index + replacement.length();
+				edited.append(source, copied, index).append(replacement);
+				copied = index + substring.length();
+				currentIndex = copied;
 
 				invalidate();
 			}
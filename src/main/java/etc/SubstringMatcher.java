@@ -0,0 +1,227 @@
+/* Licensed under MIT 2026. */
+package etc;
+
+import i18n.ResourceHandler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Finds occurrences of a fixed set of substrings in strings. The substrings are
+ * compiled once into an Aho-Corasick automaton, so a string is searched for all
+ * substrings at once instead of trying every substring at every index. <br>
+ * <br>
+ * A <code>SubstringMatcher</code> is immutable and can be shared and reused for
+ * any number of strings, also by multiple threads.
+ */
+public final class SubstringMatcher {
+
+	private static final int ROOT = 0;
+
+	/**
+	 * Substrings to find, the index is their priority
+	 */
+	private final String[] substrings;
+	/**
+	 * Length of the longest substring
+	 */
+	private final int maxLength;
+
+	/**
+	 * Sorted characters of the outgoing edges of each state
+	 */
+	private final char[][] edgeCharacters;
+	/**
+	 * Target states of the outgoing edges of each state, in the order of
+	 * <code>edgeCharacters</code>
+	 */
+	private final int[][] edgeTargets;
+	/**
+	 * Failure link of each state, pointing to the state of its longest proper
+	 * suffix
+	 */
+	private final int[] failure;
+	/**
+	 * Indices of all substrings ending in each state, including those of the
+	 * states reachable by failure links
+	 */
+	private final int[][] outputs;
+
+	/**
+	 * Compiles a new <code>SubstringMatcher</code> for a collection of substrings.
+	 * The collection may not contain empty strings.
+	 *
+	 * @param substrings Collection of substrings to find. If multiple substrings
+	 *                   match at the same index, the first one in the collection
+	 *                   is found.
+	 */
+	public SubstringMatcher(Collection<String> substrings) {
+		this.substrings = substrings.toArray(String[]::new);
+
+		List<StringBuilder> characters = new ArrayList<>();
+		List<List<Integer>> targets = new ArrayList<>();
+		List<List<Integer>> stateOutputs = new ArrayList<>();
+		addState(characters, targets, stateOutputs);
+
+		// Build the trie of all substrings
+		int longest = 0;
+		for (int i = 0; i < this.substrings.length; i++) {
+			String substring = this.substrings[i];
+			if (substring.isEmpty())
+				throw new IllegalArgumentException(ResourceHandler.getMessage("error.contextstringreplacer.emptyReplaceString"));
+			longest = Math.max(longest, substring.length());
+
+			int state = ROOT;
+			for (int j = 0; j < substring.length(); j++) {
+				int edge = characters.get(state).indexOf(String.valueOf(substring.charAt(j)));
+				if (edge < 0) {
+					characters.get(state).append(substring.charAt(j));
+					targets.get(state).add(characters.size());
+					state = addState(characters, targets, stateOutputs);
+				} else {
+					state = targets.get(state).get(edge);
+				}
+			}
+			stateOutputs.get(state).add(i);
+		}
+		this.maxLength = longest;
+
+		int states = characters.size();
+		this.edgeCharacters = new char[states][];
+		this.edgeTargets = new int[states][];
+		for (int state = 0; state < states; state++) {
+			char[] stateCharacters = characters.get(state).toString().toCharArray();
+			int[] stateTargets = new int[stateCharacters.length];
+			Integer[] order = new Integer[stateCharacters.length];
+			for (int i = 0; i < order.length; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) -> Character.compare(stateCharacters[a], stateCharacters[b]));
+
+			char[] sortedCharacters = new char[stateCharacters.length];
+			for (int i = 0; i < order.length; i++) {
+				sortedCharacters[i] = stateCharacters[order[i]];
+				stateTargets[i] = targets.get(state).get(order[i]);
+			}
+			edgeCharacters[state] = sortedCharacters;
+			edgeTargets[state] = stateTargets;
+		}
+
+		// Compute the failure links breadth first, so the links of shorter prefixes
+		// are known when they are needed
+		this.failure = new int[states];
+		this.outputs = new int[states][];
+		outputs[ROOT] = new int[0];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int target : edgeTargets[ROOT]) {
+			failure[target] = ROOT;
+			queue.add(target);
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.remove();
+			List<Integer> stateOutput = stateOutputs.get(state);
+			for (int output : outputs[failure[state]]) {
+				stateOutput.add(output);
+			}
+			outputs[state] = stateOutput.stream().mapToInt(Integer::intValue).toArray();
+
+			for (int i = 0; i < edgeCharacters[state].length; i++) {
+				int target = edgeTargets[state][i];
+				int fallback = failure[state];
+				while (fallback != ROOT && next(fallback, edgeCharacters[state][i]) < 0) {
+					fallback = failure[fallback];
+				}
+				int fallbackTarget = next(fallback, edgeCharacters[state][i]);
+				failure[target] = fallbackTarget < 0 ? ROOT : fallbackTarget;
+				queue.add(target);
+			}
+		}
+	}
+
+	private static int addState(List<StringBuilder> characters, List<List<Integer>> targets, List<List<Integer>> stateOutputs) {
+		characters.add(new StringBuilder());
+		targets.add(new ArrayList<>());
+		stateOutputs.add(new ArrayList<>());
+		return characters.size() - 1;
+	}
+
+	/**
+	 * Get the number of substrings to find
+	 *
+	 * @return Number of substrings
+	 */
+	public int size() {
+		return substrings.length;
+	}
+
+	/**
+	 * Get a substring to find
+	 *
+	 * @param index Index of the substring in the collection the matcher was
+	 *              created with
+	 * @return The substring
+	 */
+	public String getSubstring(int index) {
+		return substrings[index];
+	}
+
+	/**
+	 * Find the first occurrence of any substring in a string, starting the search
+	 * at the given index. An occurrence starting at a lower index is always found
+	 * first. If multiple substrings start at the same index, the first one in the
+	 * collection is found.
+	 *
+	 * @param string String to search in
+	 * @param from   Index to start the search at
+	 * @return The found occurrence, or <code>null</code> if no substring occurs at
+	 *         or after <code>from</code>
+	 */
+	public Match find(CharSequence string, int from) {
+		int state = ROOT;
+		int bestIndex = -1;
+		int bestSubstring = -1;
+
+		for (int end = from; end < string.length(); end++) {
+			// a substring starting at or before the best index would have ended by now
+			if (bestIndex >= 0 && end - bestIndex >= maxLength)
+				break;
+
+			char c = string.charAt(end);
+			int target = next(state, c);
+			while (target < 0 && state != ROOT) {
+				state = failure[state];
+				target = next(state, c);
+			}
+			state = target < 0 ? ROOT : target;
+
+			for (int output : outputs[state]) {
+				int index = end - substrings[output].length() + 1;
+				if (bestIndex < 0 || index < bestIndex || (index == bestIndex && output < bestSubstring)) {
+					bestIndex = index;
+					bestSubstring = output;
+				}
+			}
+		}
+
+		return bestIndex < 0 ? null : new Match(bestIndex, bestSubstring);
+	}
+
+	private int next(int state, char c) {
+		int edge = Arrays.binarySearch(edgeCharacters[state], c);
+		return edge < 0 ? -1 : edgeTargets[state][edge];
+	}
+
+	/**
+	 * An occurrence of a substring in a string.
+	 *
+	 * @param index     Index of the occurrence in the string
+	 * @param substring Index of the found substring in the collection the matcher
+	 *                  was created with
+	 */
+	public record Match(int index, int substring) {
+	}
+}
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package i18n;
 
 import java.io.Serial;
@@ -28,7 +28,7 @@ class DateFormatWrapper extends Format {
 		this.innerFormat = dateFormat;
 	}
 
-	private final DateFormat innerFormat;
+	private DateFormat innerFormat;
 
 	/**
 	 * Convert a <code>LocalDateTime</code> object to a <code>Date</code> object
@@ -62,4 +62,17 @@ class DateFormatWrapper extends Format {
 		return innerFormat.parseObject(source, pos);
 	}
 
+	/**
+	 * Create a copy of this wrapper with its own copy of the wrapped date format.
+	 * Date formats are not thread-safe, so clones must not share them.
+	 * 
+	 * @return Copy of this wrapper
+	 */
+	@Override
+	public Object clone() {
+		DateFormatWrapper clone = (DateFormatWrapper) super.clone();
+		clone.innerFormat = (DateFormat) innerFormat.clone();
+		return clone;
+	}
+
 }
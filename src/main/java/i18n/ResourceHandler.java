@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package i18n;
 
 import java.text.DateFormat;
@@ -6,9 +6,12 @@ import java.text.Format;
 import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Static class providing localized messages from the i18n message bundles.
+ * Static class providing localized messages from the i18n message bundles. The
+ * message formats are compiled only once per locale and key.
  */
 public class ResourceHandler {
 
@@ -19,39 +22,83 @@ public class ResourceHandler {
 		protected ResourceHandlerInstance(String messageBundlePath) {
 			this.messageBundlePath = messageBundlePath;
 
-			locale = Locale.getDefault();
-
-			loadResourceBundle();
+			setLocale(Locale.getDefault());
 		}
 
 		private final String messageBundlePath;
 
-		private Locale locale;
-		private ResourceBundle resourceBundle;
+		/**
+		 * The messages of the current locale. Replaced as a whole when the locale
+		 * changes, so a reader always sees a locale together with its own bundle and
+		 * cache.
+		 */
+		private volatile LocaleMessages messages;
 
 		protected Locale getLocale() {
-			return locale;
+			return messages.locale;
 		}
 
 		protected void setLocale(final Locale locale) {
-			this.locale = locale;
-
-			loadResourceBundle();
+			messages = new LocaleMessages(locale, ResourceBundle.getBundle(messageBundlePath, locale));
 		}
 
 		protected String getMessage(final String key, final Object... args) {
-			String message = resourceBundle.getString(key);
+			LocaleMessages current = messages;
+
+			// Without arguments the message only depends on the key, so the formatted
+			// message itself can be cached
+			if (args == null || args.length == 0) {
+				String message = current.messages.get(key);
+				if (message == null) {
+					message = current.getFormat(key).format(args);
+					current.messages.putIfAbsent(key, message);
+				}
+				return message;
+			}
 
-			MessageFormat format = new MessageFormat("");
-			format.setLocale(locale);
-			format.applyPattern(message);
-			replaceUnsupportedFormats(format);
+			return current.getFormat(key).format(args);
+		}
 
-			return format.format(args);
+	}
+
+	/**
+	 * The compiled message formats of a single locale.
+	 */
+	private static final class LocaleMessages {
+
+		private final Locale locale;
+		private final ResourceBundle resourceBundle;
+
+		/**
+		 * Compiled formats by message key. The cached formats are never used
+		 * directly, since message formats are not thread-safe. Each call works on a
+		 * clone instead, which is much cheaper than parsing the pattern again.
+		 */
+		private final ConcurrentMap<String, MessageFormat> formats = new ConcurrentHashMap<>();
+		/**
+		 * Formatted messages without arguments by message key
+		 */
+		private final ConcurrentMap<String, String> messages = new ConcurrentHashMap<>();
+
+		private LocaleMessages(Locale locale, ResourceBundle resourceBundle) {
+			this.locale = locale;
+			this.resourceBundle = resourceBundle;
 		}
 
-		private void loadResourceBundle() {
-			resourceBundle = ResourceBundle.getBundle(messageBundlePath, locale);
+		private MessageFormat getFormat(String key) {
+			MessageFormat format = formats.get(key);
+			if (format == null) {
+				format = new MessageFormat("");
+				format.setLocale(locale);
+				format.applyPattern(resourceBundle.getString(key));
+				replaceUnsupportedFormats(format);
+
+				MessageFormat previous = formats.putIfAbsent(key, format);
+				if (previous != null) {
+					format = previous;
+				}
+			}
+			return (MessageFormat) format.clone();
 		}
 
 		private static void replaceUnsupportedFormats(MessageFormat format) {
@@ -1,12 +1,22 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package io;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
 import java.io.*;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The FileController class provides functionality for file handling.
@@ -15,40 +25,101 @@ public class FileController {
 
 	private static final Charset CHARSET = StandardCharsets.UTF_8;
 
+	private static final String TEMP_FILE_PREFIX = ".";
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static volatile boolean syncWrites = true;
+
 	private FileController() {
 	}
 
 	/**
-	 * This method returns a {@link String} read from an {@link InputStream}.
+	 * Writes the content of a file to an {@link OutputStream}.
+	 */
+	@FunctionalInterface
+	public interface OutputWriter {
+		/**
+		 * Writes the content. The stream must not be closed.
+		 * 
+		 * @param out - The stream to write the content to.
+		 * @throws IOException if an I/O error occurs.
+		 */
+		void write(OutputStream out) throws IOException;
+	}
+
+	/**
+	 * Gets whether written files are synchronized with the storage device before
+	 * they replace their target.
+	 * 
+	 * @return true if written files are synchronized, which is the default.
+	 */
+	public static boolean isSyncWrites() {
+		return syncWrites;
+	}
+
+	/**
+	 * Sets whether written files and their directories are synchronized with the
+	 * storage device when they replace their target. Disabling the
+	 * synchronization speeds up writing many files, e.g. into a scratch directory,
+	 * but files written shortly before a system crash may be lost or empty. Other
+	 * programs never see a partially written file either way.
+	 * 
+	 * @param sync - whether to synchronize written files.
+	 */
+	public static void setSyncWrites(boolean sync) {
+		syncWrites = sync;
+	}
+
+	/**
+	 * This method returns a {@link String} read from an {@link InputStream}. The
+	 * line endings of the stream are kept. The stream is closed afterwards.
 	 * 
 	 * @param inStream - The stream the {@link String} is read from.
 	 * @return a {@link String} read from the {@link InputStream}
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static String readInputStreamToString(InputStream inStream) throws IOException {
-		StringBuilder stringBuilder = new StringBuilder();
-		String ls = System.getProperty("line.separator", "\n");
-
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inStream, CHARSET))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				stringBuilder.append(line);
-				stringBuilder.append(ls);
-			}
-
-			return stringBuilder.toString();
+		try (inStream) {
+			return new String(inStream.readAllBytes(), CHARSET);
 		}
 	}
 
 	/**
-	 * This method returns a {@link String} read from a {@link File}.
+	 * This method returns a {@link String} read from a {@link File}. The line
+	 * endings of the file are kept.
 	 * 
 	 * @param file - The file the {@link String} is read from.
 	 * @return a {@link String} read from the {@link File}
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static String readFileToString(File file) throws IOException {
-		return readInputStreamToString(new FileInputStream(file));
+		return readString(file.toPath());
+	}
+
+	/**
+	 * This method returns the content of a file as bytes, read in a single bulk
+	 * operation.
+	 * 
+	 * @param path - The path of the file.
+	 * @return the bytes of the file
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static byte[] readBytes(Path path) throws IOException {
+		return Files.readAllBytes(path);
+	}
+
+	/**
+	 * This method returns a {@link String} read from a file in a single bulk
+	 * operation. The line endings of the file are kept and malformed input is
+	 * replaced with the replacement character.
+	 * 
+	 * @param path - The path of the file.
+	 * @return a {@link String} read from the file
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static String readString(Path path) throws IOException {
+		return new String(readBytes(path), CHARSET);
 	}
 
 	/**
@@ -96,15 +167,122 @@ public class FileController {
 	}
 
 	/**
-	 * This method saves a {@link String} to a {@link File}.
+	 * This method saves a {@link String} to a {@link File}. The file is replaced
+	 * atomically, see {@link #writeAtomically(Path, OutputWriter)}.
 	 * 
 	 * @param content - The {@link String} to be saved.
 	 * @param file    - The {@link File} to save the content to.
 	 * @throws IOException if an I/O error occurs.
 	 */
 	public static void saveStringToFile(String content, File file) throws IOException {
-		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), CHARSET)) {
-			writer.write(content);
+		writeAtomically(file.toPath(), out -> out.write(content.getBytes(CHARSET)));
+	}
+
+	/**
+	 * This method saves the document of an {@link IGenerator} to a {@link File}.
+	 * The document is streamed into the file instead of being built in memory
+	 * first. The file is replaced atomically, see
+	 * {@link #writeAtomically(Path, OutputWriter)}.
+	 * 
+	 * @param generator - The generator of the document to be saved.
+	 * @param file      - The {@link File} to save the document to.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static void saveGeneratedToFile(IGenerator generator, File file) throws IOException {
+		writeAtomically(file.toPath(), out -> {
+			Writer writer = new OutputStreamWriter(out, CHARSET);
+			generator.generate(writer);
+			writer.flush();
+		});
+	}
+
+	/**
+	 * This method writes a file atomically, synchronizing it with the storage
+	 * device unless disabled by {@link #setSyncWrites(boolean)}.
+	 * 
+	 * @param target - The path of the file to write.
+	 * @param writer - Writes the content of the file.
+	 * @throws IOException if an I/O error occurs.
+	 * @see #writeAtomically(Path, OutputWriter, boolean)
+	 */
+	public static void writeAtomically(Path target, OutputWriter writer) throws IOException {
+		writeAtomically(target, writer, syncWrites);
+	}
+
+	/**
+	 * This method writes a file atomically. The content is written to a temporary
+	 * file in the directory of the target, which then replaces the target in a
+	 * single rename. Readers and a crash while writing therefore see either the
+	 * old or the complete new file, never a truncated one. If the writer fails,
+	 * the target is left untouched and the temporary file is deleted.
+	 * 
+	 * @param target - The path of the file to write.
+	 * @param writer - Writes the content of the file.
+	 * @param sync   - whether the temporary file is synchronized with the storage
+	 *               device before it replaces the target, and the directory
+	 *               after the rename. Without it, a system crash shortly after
+	 *               writing may leave an empty or the old target.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static void writeAtomically(Path target, OutputWriter writer, boolean sync) throws IOException {
+		Path absoluteTarget = target.toAbsolutePath();
+		Path tempFile = createTempFile(absoluteTarget);
+		try {
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+				writer.write(CloseShieldOutputStream.wrap(out));
+				out.flush();
+				if (sync) {
+					channel.force(true);
+				}
+			}
+			move(tempFile, absoluteTarget);
+		} catch (IOException | RuntimeException e) {
+			try {
+				Files.deleteIfExists(tempFile);
+			} catch (IOException deleteException) {
+				e.addSuppressed(deleteException);
+			}
+			throw e;
+		}
+		if (sync) {
+			syncDirectory(absoluteTarget.getParent());
+		}
+	}
+
+	/**
+	 * Synchronizes a directory with the storage device, so a rename inside it
+	 * survives a system crash. Some platforms like Windows cannot open
+	 * directories, there the rename is left to the file system.
+	 */
+	private static void syncDirectory(Path directory) {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// Not supported on this platform, the file itself is already synchronized
+		}
+	}
+
+	private static Path createTempFile(Path target) throws IOException {
+		Path directory = target.getParent();
+		String prefix = TEMP_FILE_PREFIX + target.getFileName() + ".";
+		while (true) {
+			Path tempFile = directory.resolve(prefix + Long.toHexString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+			try {
+				// Unlike Files.createTempFile, this keeps the default permissions
+				return Files.createFile(tempFile);
+			} catch (FileAlreadyExistsException e) {
+				// Try again with another name
+			}
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			// Some file systems cannot rename atomically, replacing is the best they offer
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
 		}
 	}
 }
@@ -1,10 +1,15 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package io;
 
 import data.Entry;
 import data.TimeSheet;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A generator is able to generate a document filled with values coming from a
@@ -20,6 +25,34 @@ public interface IGenerator {
 	 */
 	String generate();
 
+	/**
+	 * Generates a document with information from a {@link TimeSheet} and the
+	 * associated {@link Entry entries} and writes it to a {@link Writer}. The
+	 * writer is neither flushed nor closed.<br/>
+	 * Implementations should override this to write the document without building
+	 * it in memory first.
+	 * 
+	 * @param out - the writer to write the generated document to.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	default void generate(Writer out) throws IOException {
+		out.write(generate());
+	}
+
+	/**
+	 * Generates a document with information from a {@link TimeSheet} and the
+	 * associated {@link Entry entries} and writes it UTF-8 encoded to an
+	 * {@link OutputStream}. The stream is flushed, but not closed.
+	 * 
+	 * @param out - the stream to write the generated document to.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	default void generate(OutputStream out) throws IOException {
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		generate(writer);
+		writer.flush();
+	}
+
 	/**
 	 * Returns the {@link FileNameExtensionFilter} associated with the generated
 	 * file. This can be used if the {@link String} given by {@link #generate()}
@@ -0,0 +1,89 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import data.TimeSheet;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The LatexExporter generates LaTeX time sheets in-process. It is shared by the
+ * command line, the batch mode and the user interface, so an export only
+ * generates an already parsed and checked {@link TimeSheet}, without parsing or
+ * checking it again. The LaTeX template is read from the resources only once
+ * per process.
+ */
+public final class LatexExporter {
+
+	private static final String TEMPLATE_PATH = "MiLoG_Template.tex";
+
+	private static String template;
+
+	private LatexExporter() {
+		throw new IllegalAccessError();
+	}
+
+	/**
+	 * Gets the LaTeX template, reading it on first use. If reading fails, the next
+	 * call tries again.
+	 * 
+	 * @return The LaTeX template.
+	 * @throws IOException if the template cannot be read.
+	 */
+	public static synchronized String getTemplate() throws IOException {
+		if (template == null) {
+			InputStream templateStream = LatexExporter.class.getClassLoader().getResourceAsStream(TEMPLATE_PATH);
+			if (templateStream == null) {
+				throw new FileNotFoundException("LaTeX template not found in resources.");
+			}
+			template = FileController.readInputStreamToString(templateStream);
+		}
+		return template;
+	}
+
+	/**
+	 * Creates a generator for a time sheet using the LaTeX template.
+	 * 
+	 * @param timeSheet              - the checked time sheet.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the time sheet table.
+	 * @return The generator of the time sheet.
+	 * @throws IOException if the template cannot be read.
+	 */
+	public static IGenerator createGenerator(TimeSheet timeSheet, boolean excludeVacationEntries) throws IOException {
+		return new LatexGenerator(timeSheet, getTemplate(), excludeVacationEntries);
+	}
+
+	/**
+	 * Generates the LaTeX document of a time sheet and writes it UTF-8 encoded to
+	 * a stream. The stream is flushed, but not closed.
+	 * 
+	 * @param timeSheet              - the checked time sheet.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the time sheet table.
+	 * @param out                    - the stream to write the document to.
+	 * @throws IOException if the template cannot be read or the document cannot
+	 *                     be written.
+	 */
+	public static void export(TimeSheet timeSheet, boolean excludeVacationEntries, OutputStream out) throws IOException {
+		createGenerator(timeSheet, excludeVacationEntries).generate(out);
+	}
+
+	/**
+	 * Generates the LaTeX document of a time sheet and writes it UTF-8 encoded to
+	 * a file.
+	 * 
+	 * @param timeSheet              - the checked time sheet.
+	 * @param excludeVacationEntries - if vacation entries should not be visible in
+	 *                               the time sheet table.
+	 * @param file                   - the file to write the document to.
+	 * @throws IOException if the template cannot be read or the file cannot be
+	 *                     written.
+	 */
+	public static void export(TimeSheet timeSheet, boolean excludeVacationEntries, File file) throws IOException {
+		FileController.saveGeneratedToFile(createGenerator(timeSheet, excludeVacationEntries), file);
+	}
+}
@@ -1,18 +1,23 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package io;
 
 import data.Entry;
+import data.TimeFormat;
 import data.TimeSheet;
 import data.WorkingArea;
-import etc.ContextStringReplacer;
 import i18n.ResourceHandler;
 import lombok.Getter;
+import org.apache.commons.io.output.StringBuilderWriter;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 
 /**
  * The LatexGenerator generates a LaTeX string based on a template and fills it
@@ -36,8 +41,37 @@ public class LatexGenerator implements IGenerator {
 		LATEX_SPECIAL_CHARACTERS_REPLACE.put("~", "\\textasciitilde");
 		LATEX_SPECIAL_CHARACTERS_REPLACE.put("^", "\\textasciicircum");
 	}
+	/**
+	 * Replacements of the special characters indexed by the character, built from
+	 * the escape and replace lists. Commands are terminated by a control space if
+	 * followed by a space, by a space otherwise.
+	 */
+	private static final String[] LATEX_REPLACEMENTS = new String[128];
+	private static final boolean[] LATEX_COMMANDS = new boolean[LATEX_REPLACEMENTS.length];
+	static {
+		for (String specialCharacter : LATEX_SPECIAL_CHARACTERS_ESCAPE) {
+			LATEX_REPLACEMENTS[specialCharacter.charAt(0)] = "\\" + specialCharacter;
+		}
+		LATEX_SPECIAL_CHARACTERS_REPLACE.forEach((specialCharacter, command) -> {
+			LATEX_REPLACEMENTS[specialCharacter.charAt(0)] = command;
+			LATEX_COMMANDS[specialCharacter.charAt(0)] = true;
+		});
+	}
 
-	private static final String TABLE_DATE_FORMAT = "dd.MM.yy";
+	/**
+	 * All placeholders, in the order they take precedence in
+	 */
+	private static final List<LatexTemplate.Placeholder> PLACEHOLDERS = new ArrayList<>();
+	static {
+		PLACEHOLDERS.addAll(List.of(TimeSheetElement.values()));
+		PLACEHOLDERS.addAll(List.of(EntryElement.values()));
+	}
+	/**
+	 * The most recently compiled template. Time sheets are usually generated from
+	 * the same template, which is then only parsed once, while other templates do
+	 * not pile up in memory.
+	 */
+	private static volatile CompiledTemplate lastCompiledTemplate;
 
 	private final TimeSheet timeSheet;
 	private final String template;
@@ -74,43 +108,52 @@ public class LatexGenerator implements IGenerator {
 
 	@Override
 	public String generate() {
-		String filledTex = template;
-
-		/*
-		 * This loop replaces the document-public placeholder in the TeX template with
-		 * the correct data.
-		 */
-		for (TimeSheetElement elem : TimeSheetElement.values()) {
-			filledTex = filledTex.replace(elem.getPlaceholder(), getSubstitute(timeSheet, elem));
+		StringBuilderWriter filledTex = new StringBuilderWriter(getCompiledTemplate().length() * 2);
+		try {
+			generate(filledTex);
+		} catch (IOException e) {
+			// Writing to a StringBuilder does not fail
+			throw new UncheckedIOException(e);
 		}
+		return filledTex.toString();
+	}
+
+	@Override
+	public void generate(Writer out) throws IOException {
+		LatexTemplate compiledTemplate = getCompiledTemplate();
 
-		/*
-		 * This loop replaces the placeholder in the TeX template with the correct data.
-		 * If the TimeSheet contains to many elements for the table, all rows get filled
-		 * and the rest of data gets lost.
-		 */
-		for (EntryElement elem : EntryElement.values()) {
-			String placeholder = elem.getPlaceholder();
-			for (Entry entry : timeSheet.getEntries()) {
-				// Exclude vacation entries in table
-				if (excludeVacationEntries && entry.isVacation())
-					continue;
-				// quoteReplacement is required because the replacement string (including \, $,
-				// ^, ...) is interpreted as a regex expression otherwise
-				filledTex = filledTex.replaceFirst(placeholder, Matcher.quoteReplacement(getSubstitute(entry, elem)));
+		// Entries shown in the table, one per row
+		List<Entry> rows = new ArrayList<>();
+		for (Entry entry : timeSheet.getEntries()) {
+			// Exclude vacation entries in table
+			if (!excludeVacationEntries || !entry.isVacation()) {
+				rows.add(entry);
 			}
 		}
 
-		/*
-		 * This loop fills up all not-needed rows of the table with a blank space.
-		 * IMPORTANT: Some kind of character is needed to make the TeX compile correctly
-		 * on some TeX compilers.
-		 */
-		for (EntryElement elem : EntryElement.values()) {
-			filledTex = filledTex.replace(elem.getPlaceholder(), "");
-		}
+		Map<TimeSheetElement, String> timeSheetSubstitutes = new EnumMap<>(TimeSheetElement.class);
+		compiledTemplate.render(out, (placeholder, occurrence) -> {
+			if (placeholder instanceof TimeSheetElement elem) {
+				// Document-public placeholders get the same data on every occurrence
+				return timeSheetSubstitutes.computeIfAbsent(elem, e -> getSubstitute(timeSheet, e));
+			}
+			/*
+			 * The n-th occurrence of a table placeholder belongs to the n-th row. If the
+			 * TimeSheet contains to many elements for the table, all rows get filled and
+			 * the rest of data gets lost. Not-needed rows are left blank.
+			 */
+			EntryElement elem = (EntryElement) placeholder;
+			return occurrence < rows.size() ? getSubstitute(rows.get(occurrence), elem) : "";
+		});
+	}
 
-		return filledTex;
+	private LatexTemplate getCompiledTemplate() {
+		CompiledTemplate compiled = lastCompiledTemplate;
+		if (compiled == null || !compiled.source().equals(template)) {
+			compiled = new CompiledTemplate(template, LatexTemplate.compile(template, PLACEHOLDERS));
+			lastCompiledTemplate = compiled;
+		}
+		return compiled.template();
 	}
 
 	@Override
@@ -192,8 +235,7 @@ public class LatexGenerator implements IGenerator {
 			value = escapeText(entry.getAction());
 			break;
 		case TABLE_DATE:
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TABLE_DATE_FORMAT);
-			value = entry.getDate().format(formatter);
+			value = TimeFormat.formatDate(entry.getDate(), false);
 			break;
 		case TABLE_START:
 			value = entry.getStart().toString();
@@ -222,26 +264,57 @@ public class LatexGenerator implements IGenerator {
 	 * Escape all LaTeX special characters in the given text string
 	 * 
 	 * @param text Text only, not allowed to contain LaTeX commands or formatting
-	 * @return The escaped text string
+	 * @return The escaped text string, the same instance if nothing needs to be
+	 *         escaped
 	 */
 	public static String escapeText(String text) {
-		String escapedText = text;
+		int first = indexOfSpecialCharacter(text);
+		if (first < 0) {
+			return text;
+		}
 
-		escapedText = ContextStringReplacer.replace(escapedText, LATEX_SPECIAL_CHARACTERS_REPLACE.keySet(), r -> {
-			String replaceWith = LATEX_SPECIAL_CHARACTERS_REPLACE.get(r.getSubstring());
+		StringBuilder escapedText = new StringBuilder(text.length() + 16);
+		escapedText.append(text, 0, first);
+		escapeText(text, first, escapedText);
+		return escapedText.toString();
+	}
 
-			if (r.getLookahead(1).equals(" ")) {
-				r.replace(replaceWith + "\\");
-			} else {
-				r.replace(replaceWith + " ");
+	/**
+	 * Escape all LaTeX special characters in the given text string and append the
+	 * result to a buffer, which may be reused by the caller.
+	 * 
+	 * @param text Text only, not allowed to contain LaTeX commands or formatting
+	 * @param out  The buffer to append the escaped text string to
+	 */
+	public static void escapeText(String text, StringBuilder out) {
+		escapeText(text, 0, out);
+	}
+
+	private static void escapeText(String text, int start, StringBuilder out) {
+		for (int i = start; i < text.length(); i++) {
+			char c = text.charAt(i);
+			String replacement = c < LATEX_REPLACEMENTS.length ? LATEX_REPLACEMENTS[c] : null;
+			if (replacement == null) {
+				out.append(c);
+				continue;
 			}
-		});
 
-		for (String specialCharacter : LATEX_SPECIAL_CHARACTERS_ESCAPE) {
-			escapedText = escapedText.replace(specialCharacter, "\\" + specialCharacter);
+			out.append(replacement);
+			if (LATEX_COMMANDS[c]) {
+				boolean followedBySpace = i + 1 < text.length() && text.charAt(i + 1) == ' ';
+				out.append(followedBySpace ? "\\" : " ");
+			}
 		}
+	}
 
-		return escapedText;
+	private static int indexOfSpecialCharacter(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < LATEX_REPLACEMENTS.length && LATEX_REPLACEMENTS[c] != null) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -249,7 +322,7 @@ public class LatexGenerator implements IGenerator {
 	 * Employee and Profession, on the document.
 	 */
 	@Getter
-	private enum TimeSheetElement {
+	private enum TimeSheetElement implements LatexTemplate.Placeholder {
 		YEAR("!year"), MONTH("!month"), EMPLOYEE_NAME("!employeeName"), EMPLOYEE_ID("!employeeID"), GFUB("!workingArea"), DEPARTMENT("!department"),
 		MAX_HOURS("!workingTime"), WAGE("!wage"), VACATION("!vacation"), HOURS_SUM("!sum"), TRANSFER_PRED("!carryPred"), TRANSFER_SUCC("!carrySucc");
 
@@ -265,7 +338,7 @@ public class LatexGenerator implements IGenerator {
 	 * document.
 	 */
 	@Getter
-	private enum EntryElement {
+	private enum EntryElement implements LatexTemplate.Placeholder {
 		TABLE_ACTION("!action"), TABLE_DATE("!date"), TABLE_START("!begin"), TABLE_END("!end"), TABLE_PAUSE("!break"), TABLE_TIME("!dayTotal");
 
 		private final String placeholder;
@@ -274,4 +347,10 @@ public class LatexGenerator implements IGenerator {
 			this.placeholder = placeholder;
 		}
 	}
+
+	/**
+	 * A template and its source.
+	 */
+	private record CompiledTemplate(String source, LatexTemplate template) {
+	}
 }
@@ -0,0 +1,142 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A LaTeX template compiled into literal text and placeholder slots. The
+ * template is scanned for placeholders only once, afterwards it can be filled
+ * in a single pass by {@link #render(Writer, Filler)} without copying or
+ * rescanning the template for every placeholder.
+ * <p>
+ * Every slot knows its occurrence, i.e. how many slots with the same
+ * placeholder precede it in the template. This allows to fill repeated
+ * placeholders, like the cells of a table row, with a different value for each
+ * occurrence.
+ */
+final class LatexTemplate {
+
+	private static final char PLACEHOLDER_PREFIX = '!';
+
+	private final String source;
+	private final int[] slotStarts;
+	private final int[] slotEnds;
+	private final Placeholder[] slotPlaceholders;
+	private final int[] slotOccurrences;
+
+	private LatexTemplate(String source, int[] slotStarts, int[] slotEnds, Placeholder[] slotPlaceholders, int[] slotOccurrences) {
+		this.source = source;
+		this.slotStarts = slotStarts;
+		this.slotEnds = slotEnds;
+		this.slotPlaceholders = slotPlaceholders;
+		this.slotOccurrences = slotOccurrences;
+	}
+
+	/**
+	 * Compiles a template for the given placeholders. If more than one placeholder
+	 * matches at the same position, the first one in the given collection is used.
+	 *
+	 * @param source       - the LaTeX template.
+	 * @param placeholders - the placeholders to find in the template, each
+	 *                     starting with {@value #PLACEHOLDER_PREFIX}.
+	 * @return The compiled template.
+	 */
+	static LatexTemplate compile(String source, Collection<? extends Placeholder> placeholders) {
+		List<Placeholder> matched = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		Map<Placeholder, Integer> occurrences = new HashMap<>();
+
+		int index = source.indexOf(PLACEHOLDER_PREFIX);
+		while (index >= 0) {
+			Placeholder match = null;
+			for (Placeholder placeholder : placeholders) {
+				if (source.startsWith(placeholder.getPlaceholder(), index)) {
+					match = placeholder;
+					break;
+				}
+			}
+
+			if (match == null) {
+				index = source.indexOf(PLACEHOLDER_PREFIX, index + 1);
+			} else {
+				matched.add(match);
+				starts.add(index);
+				index = source.indexOf(PLACEHOLDER_PREFIX, index + match.getPlaceholder().length());
+			}
+		}
+
+		int[] slotStarts = new int[matched.size()];
+		int[] slotEnds = new int[matched.size()];
+		int[] slotOccurrences = new int[matched.size()];
+		for (int i = 0; i < matched.size(); i++) {
+			Placeholder placeholder = matched.get(i);
+			slotStarts[i] = starts.get(i);
+			slotEnds[i] = slotStarts[i] + placeholder.getPlaceholder().length();
+			slotOccurrences[i] = occurrences.merge(placeholder, 1, Integer::sum) - 1;
+		}
+		return new LatexTemplate(source, slotStarts, slotEnds, matched.toArray(Placeholder[]::new), slotOccurrences);
+	}
+
+	/**
+	 * Fills the template and writes the result to the given writer. The literal
+	 * text is written directly from the template source without copying it.
+	 *
+	 * @param out    - the writer to write the filled template to.
+	 * @param filler - provides the substitute of every slot.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	void render(Writer out, Filler filler) throws IOException {
+		int literalStart = 0;
+		for (int i = 0; i < slotPlaceholders.length; i++) {
+			out.write(source, literalStart, slotStarts[i] - literalStart);
+			out.write(filler.fill(slotPlaceholders[i], slotOccurrences[i]));
+			literalStart = slotEnds[i];
+		}
+		out.write(source, literalStart, source.length() - literalStart);
+	}
+
+	/**
+	 * Gets the length of the template without any placeholders being filled.
+	 *
+	 * @return The length of the template source.
+	 */
+	int length() {
+		return source.length();
+	}
+
+	/**
+	 * A placeholder that can be found in a template.
+	 */
+	interface Placeholder {
+
+		/**
+		 * Gets the text that marks this placeholder in a template.
+		 *
+		 * @return The text of the placeholder.
+		 */
+		String getPlaceholder();
+	}
+
+	/**
+	 * Provides the substitutes of the slots of a template.
+	 */
+	@FunctionalInterface
+	interface Filler {
+
+		/**
+		 * Gets the substitute of a slot.
+		 *
+		 * @param placeholder - the placeholder of the slot.
+		 * @param occurrence  - the number of slots with the same placeholder before
+		 *                    this one.
+		 * @return The substitute of the slot.
+		 */
+		String fill(Placeholder placeholder, int occurrence);
+	}
+}
@@ -1,12 +1,16 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package main;
 
 import checker.*;
+import checker.holiday.HolidayCache;
+import checker.holiday.HolidayCalendar;
 import data.TimeSheet;
 import i18n.ResourceHandler;
 import io.FileController;
-import io.IGenerator;
-import io.LatexGenerator;
+import io.LatexExporter;
+import main.batch.BatchGenerator;
+import main.batch.BatchResult;
+import main.request.BatchGenerateRequest;
 import main.request.RequestType;
 import main.request.Request;
 import main.request.GenerateRequest;
@@ -18,6 +22,7 @@ import updater.Updater;
 import javax.swing.*;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -58,6 +63,12 @@ public class Main {
 			return;
 		}
 		RequestType requestType = request.getType();
+		if (userInput.isNoSync()) {
+			FileController.setSyncWrites(false);
+		}
+		if (userInput.isOnlineHolidays()) {
+			HolidayCalendar.setDefault(HolidayCalendar.fetching(HolidayCache.getDefault()));
+		}
 
 		// If requested: Print help and return
 		if (requestType == RequestType.HELP) {
@@ -69,6 +80,11 @@ public class Main {
 			userInput.printVersion();
 			return;
 		}
+		// If requested: Generate all time sheets of the batch and return
+		if (request instanceof BatchGenerateRequest batchRequest) {
+			generateBatch(batchRequest);
+			return;
+		}
 
 		// Check if the user wants to not generate vacation entries.
 		// Only relevant if request is generate request, and in that case it will be
@@ -118,17 +134,31 @@ public class Main {
 		}
 
 		// Generate and save output file
-		ClassLoader classLoader = Main.class.getClassLoader();
 		try {
-			String latexTemplate = FileController.readInputStreamToString(classLoader.getResourceAsStream("MiLoG_Template.tex"));
-			IGenerator generator = new LatexGenerator(timeSheet, latexTemplate, excludeVacationEntries);
-			FileController.saveStringToFile(generator.generate(), userInput.getFile(UserInputFile.OUTPUT));
+			LatexExporter.export(timeSheet, excludeVacationEntries, userInput.getFile(UserInputFile.OUTPUT));
 		} catch (IOException e) {
 			System.out.println(e.getMessage());
 			System.exit(1);
 		}
 	}
 
+	private static void generateBatch(BatchGenerateRequest batchRequest) {
+		List<BatchResult> results;
+		try {
+			results = new BatchGenerator(batchRequest).run(result -> BatchGenerator.printResult(result, System.out));
+		} catch (IOException | ParseException e) {
+			System.out.println(e.getMessage());
+			System.exit(1);
+			return;
+		}
+
+		BatchGenerator.printSummary(results, System.out);
+		int exitCode = BatchGenerator.getExitCode(results);
+		if (exitCode != 0) {
+			System.exit(exitCode);
+		}
+	}
+
 	private static void handleInvalidTimesheet(IChecker checker, UserInput userInput) {
 		for (CheckerError error : checker.getErrors()) {
 			System.out.println(error.getErrorMessage());
@@ -178,6 +208,20 @@ public class Main {
 			return Optional.of(e.getMessage());
 		}
 
+		return validateTimesheet(timeSheet, exportType);
+	}
+
+	/**
+	 * Validates an already parsed timesheet. If the timesheet is not valid, this
+	 * method returns an optional containing the error message. If it is, this
+	 * method will return an empty optional.
+	 * 
+	 * @param timeSheet  The timesheet to validate.
+	 * @param exportType The type of file that is being exported to, as they have
+	 *                   slight differences.
+	 * @return An optional of the error message.
+	 */
+	public static Optional<String> validateTimesheet(TimeSheet timeSheet, ExportType exportType) {
 		// Check time sheet
 		IChecker checker = new MiLoGChecker(timeSheet, exportType);
 		CheckerReturn checkerReturn;
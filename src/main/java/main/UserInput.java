@@ -1,9 +1,11 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package main;
 
 import i18n.ResourceHandler;
+import main.request.BatchGenerateRequest;
 import main.request.GenerateRequest;
 import main.request.HelpRequest;
+import main.request.OutputFormat;
 import main.request.Request;
 import main.request.VersionRequest;
 import org.apache.commons.cli.*;
@@ -54,12 +56,58 @@ public class UserInput {
 			return new VersionRequest();
 		}
 
+		boolean gui = commandLine.hasOption(UserInputOption.GUI.getOption().getOpt());
+		boolean file = commandLine.hasOption(UserInputOption.FILE.getOption().getOpt());
+		boolean batch = commandLine.hasOption(UserInputOption.BATCH.getOption().getOpt());
+		boolean merge = commandLine.hasOption(UserInputOption.MERGE.getOption().getOpt());
+		// Merged time sheets are always PDF files
+		boolean pdf = merge || commandLine.hasOption(UserInputOption.PDF.getOption().getOpt());
+		boolean excludeVacationEntries = commandLine.hasOption(UserInputOption.NO_VACATION_ENTRIES.getOption().getOpt());
+
 		// "gui" and "file" options are mutually exclusive
-		if (commandLine.hasOption(UserInputOption.GUI.getOption().getOpt()) && commandLine.hasOption(UserInputOption.FILE.getOption().getOpt())) {
+		if (gui && file) {
 			throw new ParseException(ResourceHandler.getMessage("error.userinput.mutuallyExclusiveOptionsGuiFile"));
-		} else {
-			return new GenerateRequest(commandLine.hasOption(UserInputOption.NO_VACATION_ENTRIES.getOption().getOpt()));
 		}
+		// "batch" cannot be combined with "gui" or "file"
+		if (batch && (gui || file)) {
+			throw new ParseException(ResourceHandler.getMessage("error.userinput.mutuallyExclusiveOptionsBatch"));
+		}
+		// PDF files can only be generated in batch mode
+		if (pdf && !batch) {
+			throw new ParseException(ResourceHandler.getMessage("error.userinput.pdfRequiresBatch"));
+		}
+
+		if (batch) {
+			String[] batchArgs = commandLine.getOptionValues(UserInputOption.BATCH.getOption().getOpt());
+			return new BatchGenerateRequest(excludeVacationEntries, new File(batchArgs[0]), batchArgs[1], new File(batchArgs[2]), parseParallelism(),
+					pdf ? OutputFormat.PDF : OutputFormat.LATEX, commandLine.getOptionValue(UserInputOption.MERGE.getOption().getOpt()));
+		}
+		return new GenerateRequest(excludeVacationEntries);
+	}
+
+	/**
+	 * Parses the parallelism of a batch request. If the option is not present, the
+	 * number of available processors is used.
+	 * 
+	 * @return The number of month files processed concurrently.
+	 * @throws ParseException Thrown in case the parallelism is not a positive
+	 *                        integer
+	 */
+	private int parseParallelism() throws ParseException {
+		String value = commandLine.getOptionValue(UserInputOption.PARALLELISM.getOption().getOpt());
+		if (value == null) {
+			return Runtime.getRuntime().availableProcessors();
+		}
+
+		try {
+			int parallelism = Integer.parseInt(value);
+			if (parallelism >= 1) {
+				return parallelism;
+			}
+		} catch (NumberFormatException e) {
+			// Handled below
+		}
+		throw new ParseException(ResourceHandler.getMessage("error.userinput.invalidParallelism", value));
 	}
 
 	/**
@@ -68,7 +116,25 @@ public class UserInput {
 	 * @return True if the files are chosen from a GUI.
 	 */
 	public boolean isGui() {
-		return !commandLine.hasOption(UserInputOption.FILE.getOption().getOpt());
+		return !commandLine.hasOption(UserInputOption.FILE.getOption().getOpt()) && !commandLine.hasOption(UserInputOption.BATCH.getOption().getOpt());
+	}
+
+	/**
+	 * Get if written files are not synchronized with the storage device.
+	 * 
+	 * @return True if synchronizing written files is skipped.
+	 */
+	public boolean isNoSync() {
+		return commandLine.hasOption(UserInputOption.NO_SYNC.getOption().getOpt());
+	}
+
+	/**
+	 * Get if the holidays are fetched online instead of computed.
+	 * 
+	 * @return True if the holidays are fetched online.
+	 */
+	public boolean isOnlineHolidays() {
+		return commandLine.hasOption(UserInputOption.ONLINE_HOLIDAYS.getOption().getOpt());
 	}
 
 	/**
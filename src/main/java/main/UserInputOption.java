@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2025. */
+/* Licensed under MIT 2023-2026. */
 package main;
 
 import i18n.ResourceHandler;
@@ -31,7 +31,35 @@ public enum UserInputOption {
 	 * Specify the files in the arguments of this command
 	 */
 	FILE(Option.builder("f").longOpt("file").desc(ResourceHandler.getMessage("command.input.file.description")).numberOfArgs(3)
-			.argName(ResourceHandler.getMessage("command.input.file.arguments")).build());
+			.argName(ResourceHandler.getMessage("command.input.file.arguments")).build()),
+	/**
+	 * Generate the time sheets for all month files of a directory or glob pattern
+	 */
+	BATCH(Option.builder("b").longOpt("batch").desc(ResourceHandler.getMessage("command.input.batch.description")).numberOfArgs(3)
+			.argName(ResourceHandler.getMessage("command.input.batch.arguments")).build()),
+	/**
+	 * The number of month files processed concurrently in batch mode
+	 */
+	PARALLELISM(Option.builder("p").longOpt("parallelism").desc(ResourceHandler.getMessage("command.input.parallelism.description")).numberOfArgs(1)
+			.argName(ResourceHandler.getMessage("command.input.parallelism.arguments")).build()),
+	/**
+	 * Generate PDF instead of LaTeX files in batch mode
+	 */
+	PDF(Option.builder("P").longOpt("pdf").desc(ResourceHandler.getMessage("command.input.pdf.description")).hasArg(false).build()),
+	/**
+	 * Merge all time sheets of the batch into a single PDF file
+	 */
+	MERGE(Option.builder("M").longOpt("merge").desc(ResourceHandler.getMessage("command.input.merge.description")).numberOfArgs(1)
+			.argName(ResourceHandler.getMessage("command.input.merge.arguments")).build()),
+	/**
+	 * Skip synchronizing written files with the storage device
+	 */
+	NO_SYNC(Option.builder("S").longOpt("no-sync").desc(ResourceHandler.getMessage("command.input.no-sync.description")).hasArg(false).build()),
+	/**
+	 * Fetch the holidays online and cache them instead of computing them
+	 */
+	ONLINE_HOLIDAYS(Option.builder("o").longOpt("online-holidays").desc(ResourceHandler.getMessage("command.input.online-holidays.description")).hasArg(false)
+			.build());
 
 	private final Option option;
 
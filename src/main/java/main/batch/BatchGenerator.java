@@ -0,0 +1,433 @@
+/* Licensed under MIT 2026. */
+package main.batch;
+
+import checker.*;
+import com.fasterxml.jackson.databind.ObjectReader;
+import data.Employee;
+import data.Profession;
+import data.TimeSheet;
+import i18n.ResourceHandler;
+import io.FileController;
+import io.FileController.OutputWriter;
+import io.IGenerator;
+import io.LatexExporter;
+import io.LatexGenerator;
+import main.request.BatchGenerateRequest;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import parser.IGlobalParser;
+import parser.MonthParserType;
+import parser.ParseException;
+import parser.Parser;
+import parser.json.JsonGlobalParser;
+import parser.json.JsonRegistry;
+import parser.ui.UIGlobalParser;
+import ui.export.PDFArchive;
+import ui.export.PDFCompiler;
+import ui.export.PDFOptions;
+import ui.json.Global;
+import ui.json.Month;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * The BatchGenerator generates the time sheets for many month files in a single
+ * run. The global file and the LaTeX or PDF template are only read and parsed
+ * once and shared by all month files, so the per-file cost is reduced to
+ * parsing, checking and generating the month itself. The month files are
+ * processed concurrently by a {@link PipelineExecutor}.
+ */
+public class BatchGenerator {
+
+	private static final ObjectReader PDF_GLOBAL_READER = JsonRegistry.reader(Global.class);
+	private static final ObjectReader PDF_MONTH_READER = JsonRegistry.reader(Month.class);
+	private static final String PART_DIRECTORY_PREFIX = "timesheet-parts-";
+
+	private final BatchGenerateRequest request;
+
+	/**
+	 * Constructs a new {@link BatchGenerator} instance.
+	 * 
+	 * @param request - the batch request specifying the input and output files.
+	 */
+	public BatchGenerator(BatchGenerateRequest request) {
+		this.request = request;
+	}
+
+	/**
+	 * Generates the time sheets for all month files of the request. A failure for
+	 * a single month file does not abort the run, but is reported in the returned
+	 * results.
+	 * 
+	 * If the request merges the time sheets, all generated documents are appended
+	 * to a single archive in the order of the month files instead of being
+	 * written to separate files. The intermediate part files are kept in a
+	 * temporary directory, which is deleted even if the run fails.
+	 * 
+	 * @param onResult - called for each result in the order of the month files,
+	 *                 as soon as it is available.
+	 * @return The results for all month files, in the order of their file names.
+	 * @throws IOException    if the month files, the global file or the template
+	 *                        cannot be read, the output directory cannot be
+	 *                        created or the archive cannot be written.
+	 * @throws ParseException if the global file cannot be parsed.
+	 */
+	public List<BatchResult> run(Consumer<BatchResult> onResult) throws IOException, ParseException {
+		List<File> monthFiles = resolveMonthFiles(request.getMonthSource(), request.getGlobalFile());
+		if (monthFiles.isEmpty()) {
+			throw new IOException(ResourceHandler.getMessage("error.userinput.noMonthFilesFound", request.getMonthSource()));
+		}
+
+		File outputDirectory = request.getOutputDirectory();
+		if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+			throw new IOException(ResourceHandler.getMessage("error.userinput.outputDirectoryNotCreated", outputDirectory.getPath()));
+		}
+
+		String global = FileController.readFileToString(request.getGlobalFile());
+		PipelineExecutor.Stage<MonthFile, GeneratedTimeSheet> compute = switch (request.getOutputFormat()) {
+		case LATEX -> createLatexStage(global);
+		case PDF -> createPDFStage(global);
+		};
+
+		BiFunction<File, Exception, BatchResult> failure = (monthFile, e) -> BatchResult.failure(monthFile, List.of(String.valueOf(e.getMessage())));
+		if (request.getMergeFileName() == null) {
+			try (PipelineExecutor executor = new PipelineExecutor(request.getParallelism())) {
+				return executor.run(monthFiles, BatchGenerator::read, compute, this::write, failure, onResult);
+			}
+		}
+
+		File archiveFile = outputDirectory.toPath().resolve(request.getMergeFileName()).toFile();
+		List<BatchResult> results = new ArrayList<>(monthFiles.size());
+		Path partDirectory = createPartDirectory();
+		try (PipelineExecutor executor = new PipelineExecutor(request.getParallelism()); PDFArchive archive = new PDFArchive()) {
+			// Parts are written concurrently, but appended in the order of the month files
+			executor.run(monthFiles, BatchGenerator::read, compute, generated -> writePart(generated, partDirectory), failure, part -> {
+				BatchResult result = append(archive, part, archiveFile);
+				results.add(result);
+				onResult.accept(result);
+			});
+			if (archive.getNumberOfPages() > 0) {
+				archive.save(archiveFile);
+			}
+		} finally {
+			// The executor is closed first, so no part is written after this
+			FileUtils.deleteQuietly(partDirectory.toFile());
+		}
+		return results;
+	}
+
+	/**
+	 * Reads a single month file. This is the first I/O stage of the pipeline.
+	 * 
+	 * @param monthFile - the month file to read.
+	 * @return The content of the month file.
+	 * @throws IOException if the month file cannot be read.
+	 */
+	private static MonthFile read(File monthFile) throws IOException {
+		return new MonthFile(monthFile, FileController.readFileToString(monthFile));
+	}
+
+	/**
+	 * Creates the compute stage generating LaTeX files. The global file and the
+	 * LaTeX template are parsed and read once and shared by all month files. The
+	 * document is rendered in the compute stage, only writing the rendered bytes
+	 * is left to the I/O stage. The number of rendered documents held in memory is
+	 * bounded by the inputs in flight of the {@link PipelineExecutor}.
+	 * 
+	 * @param global - the content of the global file.
+	 * @return The compute stage.
+	 * @throws IOException    if the LaTeX template cannot be read.
+	 * @throws ParseException if the global file cannot be parsed.
+	 */
+	private PipelineExecutor.Stage<MonthFile, GeneratedTimeSheet> createLatexStage(String global) throws IOException, ParseException {
+		IGlobalParser globalParser = new JsonGlobalParser(global);
+		Employee employee = globalParser.getEmployee();
+		Profession profession = globalParser.getProfession();
+		String latexTemplate = LatexExporter.getTemplate();
+
+		return month -> {
+			TimeSheet timeSheet = Parser.parseTimeSheetJson(employee, profession, month.content(), MonthParserType.STREAMING);
+			return generate(month.file(), timeSheet, ExportType.EXPORT_LATEX, () -> {
+				IGenerator generator = new LatexGenerator(timeSheet, latexTemplate, request.isExcludeVacationEntries());
+				ByteArrayOutputStream document = new ByteArrayOutputStream();
+				generator.generate(document);
+				return document::writeTo;
+			});
+		};
+	}
+
+	/**
+	 * Creates the compute stage generating PDF files. The global file is parsed
+	 * once into the format of the PDF template. Each month file is parsed once,
+	 * and the parsed month is used both for checking the time sheet and for
+	 * filling its own copy of the PDF template. Only writing the filled document
+	 * is left to the I/O stage.
+	 * 
+	 * @param globalContent - the content of the global file.
+	 * @return The compute stage.
+	 * @throws IOException    if the global file cannot be read as JSON.
+	 * @throws ParseException if the global file contains invalid values.
+	 */
+	private PipelineExecutor.Stage<MonthFile, GeneratedTimeSheet> createPDFStage(String globalContent) throws IOException, ParseException {
+		Global global = PDF_GLOBAL_READER.readValue(globalContent);
+		IGlobalParser globalParser = new UIGlobalParser(global);
+		Employee employee = globalParser.getEmployee();
+		Profession profession = globalParser.getProfession();
+		PDFOptions options = new PDFOptions(true, !request.isExcludeVacationEntries(), false, false, true);
+
+		return monthFile -> {
+			Month month = PDF_MONTH_READER.readValue(monthFile.content());
+			TimeSheet timeSheet = Parser.parseTimeSheet(employee, profession, month);
+			return generate(monthFile.file(), timeSheet, ExportType.EXPORT_PDF, () -> {
+				ByteArrayOutputStream document = new ByteArrayOutputStream();
+				PDFCompiler.compileToPDF(global, month, document, options);
+				return document::writeTo;
+			});
+		};
+	}
+
+	/**
+	 * Checks and generates the time sheet of a single month file. This is called
+	 * by the compute stage of the pipeline.
+	 * 
+	 * @param monthFile     - the month file of the time sheet.
+	 * @param timeSheet     - the parsed time sheet.
+	 * @param exportType    - the export type the time sheet is checked for.
+	 * @param outputFactory - creates the output of a valid time sheet.
+	 * @return The generated time sheet, or the checker errors if the time sheet is
+	 *         invalid.
+	 * @throws CheckerException if an error occurs while checking the time sheet.
+	 * @throws IOException      if the output cannot be generated.
+	 */
+	private static GeneratedTimeSheet generate(File monthFile, TimeSheet timeSheet, ExportType exportType, OutputFactory outputFactory)
+			throws CheckerException, IOException {
+		IChecker checker = new MiLoGChecker(timeSheet, exportType);
+		if (checker.check() == CheckerReturn.INVALID) {
+			return new GeneratedTimeSheet(monthFile, null, checker.getErrors().stream().map(CheckerError::getErrorMessage).toList());
+		}
+
+		return new GeneratedTimeSheet(monthFile, outputFactory.create(), List.of());
+	}
+
+	/**
+	 * Writes a generated time sheet to the output directory. This is the last I/O
+	 * stage of the pipeline.
+	 * 
+	 * @param generated - the generated time sheet.
+	 * @return The result for the month file.
+	 * @throws IOException if the output file cannot be written.
+	 */
+	private BatchResult write(GeneratedTimeSheet generated) throws IOException {
+		if (!generated.errors().isEmpty()) {
+			return BatchResult.failure(generated.monthFile(), generated.errors());
+		}
+
+		File outputFile = new File(request.getOutputDirectory(), getOutputFileName(generated.monthFile()));
+		FileController.writeAtomically(outputFile.toPath(), generated.output());
+		return BatchResult.success(generated.monthFile(), outputFile);
+	}
+
+	/**
+	 * Creates the temporary directory of the part files when merging. It is
+	 * located in the directory of the PDF scratch files configured by
+	 * {@link PDFCompiler#getMemorySettings()}, or the default temporary directory.
+	 * 
+	 * @return The created directory.
+	 * @throws IOException if the directory cannot be created.
+	 */
+	private static Path createPartDirectory() throws IOException {
+		File tempDirectory = PDFCompiler.getMemorySettings().tempDirectory();
+		if (tempDirectory == null) {
+			return Files.createTempDirectory(PART_DIRECTORY_PREFIX);
+		}
+		return Files.createTempDirectory(tempDirectory.toPath(), PART_DIRECTORY_PREFIX);
+	}
+
+	/**
+	 * Writes a generated time sheet to a temporary part file, which is appended to
+	 * the archive afterwards. This replaces the last I/O stage of the pipeline
+	 * when merging, so the generated documents do not pile up on the heap while
+	 * waiting to be appended. The part file is thrown away after appending, so it
+	 * is written directly, without replacing it atomically or syncing it.
+	 * 
+	 * @param generated     - the generated time sheet.
+	 * @param partDirectory - the temporary directory of the part files.
+	 * @return The result for the month file, referring to the part file.
+	 * @throws IOException if the part file cannot be written.
+	 */
+	private BatchResult writePart(GeneratedTimeSheet generated, Path partDirectory) throws IOException {
+		if (!generated.errors().isEmpty()) {
+			return BatchResult.failure(generated.monthFile(), generated.errors());
+		}
+
+		String baseName = FilenameUtils.getBaseName(generated.monthFile().getName());
+		Path part = Files.createTempFile(partDirectory, baseName + "-", "." + request.getOutputFormat().getExtension());
+		try (OutputStream out = Files.newOutputStream(part)) {
+			generated.output().write(out);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(part);
+			throw e;
+		}
+		return BatchResult.success(generated.monthFile(), part.toFile());
+	}
+
+	/**
+	 * Appends a written part to the archive and deletes the part file.
+	 * 
+	 * @param archive     - the archive to append to.
+	 * @param part        - the result of writing the part.
+	 * @param archiveFile - the file the archive is saved to.
+	 * @return The result for the month file, referring to the archive file.
+	 */
+	private static BatchResult append(PDFArchive archive, BatchResult part, File archiveFile) {
+		if (!part.isSuccess()) {
+			return part;
+		}
+
+		try {
+			archive.add(part.outputFile());
+			return BatchResult.success(part.monthFile(), archiveFile);
+		} catch (IOException e) {
+			return BatchResult.failure(part.monthFile(), List.of(String.valueOf(e.getMessage())));
+		} finally {
+			try {
+				Files.deleteIfExists(part.outputFile().toPath());
+			} catch (IOException e) {
+				part.outputFile().deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * Prints the result for a single month file.
+	 * 
+	 * @param result - the result of the month file.
+	 * @param out    - the stream to print to.
+	 */
+	public static void printResult(BatchResult result, PrintStream out) {
+		if (result.isSuccess()) {
+			out.println(ResourceHandler.getMessage("command.output.batch.success", result.monthFile().getPath(), result.outputFile().getPath()));
+		} else {
+			out.println(ResourceHandler.getMessage("command.output.batch.failure", result.monthFile().getPath()));
+			for (String error : result.errors()) {
+				out.println("\t" + error);
+			}
+		}
+	}
+
+	/**
+	 * Prints a summary of the whole batch run.
+	 * 
+	 * @param results - the results of the batch run.
+	 * @param out     - the stream to print to.
+	 */
+	public static void printSummary(List<BatchResult> results, PrintStream out) {
+		long failed = results.stream().filter(result -> !result.isSuccess()).count();
+		out.println(ResourceHandler.getMessage("command.output.batch.summary", results.size() - failed, results.size(), failed));
+	}
+
+	/**
+	 * Returns the exit code of a batch run.
+	 * 
+	 * @param results - the results of the batch run.
+	 * @return 0 if the time sheets of all month files were generated, 1 otherwise.
+	 */
+	public static int getExitCode(List<BatchResult> results) {
+		return results.stream().allMatch(BatchResult::isSuccess) ? 0 : 1;
+	}
+
+	/**
+	 * Resolves the month files of a directory or glob pattern. If the source is a
+	 * directory, all json files inside it are used. Otherwise, the last path
+	 * element is interpreted as glob pattern for the files of its parent directory.
+	 * The global file is never part of the result, even if it matches.
+	 * 
+	 * @param monthSource - a directory or glob pattern.
+	 * @param globalFile  - the global file to exclude.
+	 * @return The month files sorted by their file names.
+	 * @throws IOException if the directory cannot be read.
+	 */
+	static List<File> resolveMonthFiles(String monthSource, File globalFile) throws IOException {
+		File source = new File(monthSource);
+		Path directory;
+		String glob;
+		if (source.isDirectory()) {
+			directory = source.toPath();
+			glob = "*." + ResourceHandler.getMessage("file.json.extension");
+		} else {
+			File parent = source.getParentFile();
+			directory = parent == null ? Path.of("") : parent.toPath();
+			glob = source.getName();
+		}
+
+		Path globalPath = globalFile.toPath().toAbsolutePath().normalize();
+		List<File> monthFiles = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+			for (Path path : stream) {
+				if (Files.isRegularFile(path) && !path.toAbsolutePath().normalize().equals(globalPath)) {
+					monthFiles.add(path.toFile());
+				}
+			}
+		}
+		monthFiles.sort(Comparator.comparing(File::getName));
+		return monthFiles;
+	}
+
+	/**
+	 * Returns the name of the output file for a month file, which is the name of
+	 * the month file with the extension of the output format.
+	 * 
+	 * @param monthFile - the month file.
+	 * @return The name of the output file.
+	 */
+	private String getOutputFileName(File monthFile) {
+		return FilenameUtils.getBaseName(monthFile.getName()) + "." + request.getOutputFormat().getExtension();
+	}
+
+	/**
+	 * A month file and its content.
+	 * 
+	 * @param file    The month file.
+	 * @param content The content of the month file.
+	 */
+	private record MonthFile(File file, String content) {
+	}
+
+	/**
+	 * A generated time sheet, or the errors that prevented its generation.
+	 * 
+	 * @param monthFile The month file the time sheet was generated from.
+	 * @param output    The output of the checked time sheet, or {@code null} if
+	 *                  the time sheet is invalid.
+	 * @param errors    The checker errors, empty if the time sheet is valid.
+	 */
+	private record GeneratedTimeSheet(File monthFile, OutputWriter output, List<String> errors) {
+	}
+
+	/**
+	 * Creates the output of a valid time sheet in the compute stage.
+	 */
+	@FunctionalInterface
+	private interface OutputFactory {
+
+		/**
+		 * Creates the output of the parsed and checked time sheet.
+		 * 
+		 * @return The output, which is written in the I/O stage.
+		 * @throws IOException if the output cannot be generated.
+		 */
+		OutputWriter create() throws IOException;
+	}
+}
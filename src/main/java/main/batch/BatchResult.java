@@ -0,0 +1,61 @@
+/* Licensed under MIT 2026. */
+package main.batch;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * The outcome of generating the time sheet for a single month file as part of
+ * a batch run.
+ * 
+ * @param monthFile  The month file the time sheet was generated from.
+ * @param outputFile The generated file, or {@code null} if generation failed.
+ * @param errors     The error messages, empty if generation was successful.
+ */
+public record BatchResult(File monthFile, File outputFile, List<String> errors) {
+
+	/**
+	 * Creates a new Batch Result. Creates an unmodifiable copy of the error list.
+	 * 
+	 * @param monthFile  The month file the time sheet was generated from.
+	 * @param outputFile The generated file, or {@code null} if generation failed.
+	 * @param errors     The error messages, empty if generation was successful.
+	 */
+	public BatchResult(File monthFile, File outputFile, List<String> errors) {
+		this.monthFile = monthFile;
+		this.outputFile = outputFile;
+		this.errors = List.copyOf(errors);
+	}
+
+	/**
+	 * Creates the result of a successful generation.
+	 * 
+	 * @param monthFile  The month file the time sheet was generated from.
+	 * @param outputFile The generated file.
+	 * @return The successful result.
+	 */
+	public static BatchResult success(File monthFile, File outputFile) {
+		return new BatchResult(monthFile, outputFile, List.of());
+	}
+
+	/**
+	 * Creates the result of a failed generation.
+	 * 
+	 * @param monthFile The month file the time sheet should have been generated
+	 *                  from.
+	 * @param errors    The error messages explaining the failure.
+	 * @return The failed result.
+	 */
+	public static BatchResult failure(File monthFile, List<String> errors) {
+		return new BatchResult(monthFile, null, errors);
+	}
+
+	/**
+	 * If the time sheet was generated successfully.
+	 * 
+	 * @return True if no errors occurred, false otherwise.
+	 */
+	public boolean isSuccess() {
+		return errors.isEmpty();
+	}
+}
@@ -0,0 +1,188 @@
+/* Licensed under MIT 2026. */
+package main.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A bounded pipeline executor running the stages read, compute and write for
+ * many independent inputs concurrently. The I/O stages (read and write) run on
+ * virtual threads, while the compute stage runs on a thread pool sized by the
+ * parallelism. The number of inputs in flight at the same time is bounded, so
+ * memory usage does not grow with the number of inputs. <br/>
+ * <br/>
+ * Results are reported in the order of the inputs, regardless of the order in
+ * which they complete.
+ */
+public class PipelineExecutor implements AutoCloseable {
+
+	/**
+	 * Number of inputs per compute thread that may be in flight at the same time.
+	 * Allows the I/O stages to read ahead while all compute threads are busy.
+	 */
+	private static final int IN_FLIGHT_PER_THREAD = 2;
+
+	private final int parallelism;
+	private final ExecutorService ioExecutor;
+	private final ExecutorService computeExecutor;
+
+	/**
+	 * Constructs a new {@link PipelineExecutor} instance.
+	 * 
+	 * @param parallelism - the number of threads for the compute stage.
+	 */
+	public PipelineExecutor(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1.");
+		}
+		this.parallelism = parallelism;
+		this.ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		ThreadFactory computeThreadFactory = Thread.ofPlatform().name("pipeline-compute-", 0).daemon().factory();
+		this.computeExecutor = Executors.newFixedThreadPool(parallelism, computeThreadFactory);
+	}
+
+	/**
+	 * Runs all inputs through the pipeline and waits for all of them to complete.
+	 * An exception thrown by any stage does not abort the run, but is mapped to a
+	 * result for the affected input by the failure function. An {@link Error}
+	 * thrown by a stage, or an exception thrown by the failure function itself, is
+	 * rethrown by this method once the results before it have been reported.
+	 * 
+	 * @param inputs   - the inputs to process.
+	 * @param read     - the I/O stage reading an input.
+	 * @param compute  - the compute stage processing the read data.
+	 * @param write    - the I/O stage writing the computed data.
+	 * @param failure  - maps an input and the exception of a failed stage to a
+	 *                 result.
+	 * @param onResult - called for each result in the order of the inputs, as soon
+	 *                 as the result and all results before it are available.
+	 * @param <I>      the type of the inputs.
+	 * @param <R>      the type of the read data.
+	 * @param <C>      the type of the computed data.
+	 * @param <O>      the type of the results.
+	 * @return The results in the order of the inputs.
+	 */
+	public <I, R, C, O> List<O> run(List<I> inputs, Stage<I, R> read, Stage<R, C> compute, Stage<C, O> write, BiFunction<I, Exception, O> failure,
+			Consumer<? super O> onResult) {
+		List<CompletableFuture<O>> results = new ArrayList<>(inputs.size());
+		for (int i = 0; i < inputs.size(); i++) {
+			results.add(new CompletableFuture<>());
+		}
+
+		// Submitting happens on its own thread, so results can already be reported
+		// while the submitting thread waits for free slots.
+		Semaphore inFlight = new Semaphore(parallelism * IN_FLIGHT_PER_THREAD);
+		Thread.ofVirtual().start(() -> {
+			for (int i = 0; i < inputs.size(); i++) {
+				I input = inputs.get(i);
+				CompletableFuture<O> result = results.get(i);
+				try {
+					inFlight.acquire();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					for (int remaining = i; remaining < inputs.size(); remaining++) {
+						complete(results.get(remaining), inputs.get(remaining), null, e, failure);
+					}
+					return;
+				}
+
+				try {
+					CompletableFuture.supplyAsync(() -> apply(read, input), ioExecutor).thenApplyAsync(r -> apply(compute, r), computeExecutor)
+							.thenApplyAsync(c -> apply(write, c), ioExecutor).whenComplete((output, throwable) -> {
+								inFlight.release();
+								complete(result, input, output, throwable, failure);
+							});
+				} catch (Throwable t) {
+					// The pipeline could not be started, e.g. because the executors are closed
+					inFlight.release();
+					complete(result, input, null, t, failure);
+				}
+			}
+		});
+
+		List<O> outputs = new ArrayList<>(inputs.size());
+		for (CompletableFuture<O> result : results) {
+			O output;
+			try {
+				output = result.join();
+			} catch (CompletionException e) {
+				throw rethrow(e.getCause());
+			}
+			onResult.accept(output);
+			outputs.add(output);
+		}
+		return outputs;
+	}
+
+	@Override
+	public void close() {
+		ioExecutor.close();
+		computeExecutor.close();
+	}
+
+	private static <I, O> O apply(Stage<I, O> stage, I input) {
+		try {
+			return stage.apply(input);
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * Completes the result of an input. The result is always completed, if
+	 * necessary exceptionally, so waiting for it can never block forever.
+	 */
+	private static <I, O> void complete(CompletableFuture<O> result, I input, O output, Throwable throwable, BiFunction<I, Exception, O> failure) {
+		try {
+			result.complete(throwable == null ? output : failure.apply(input, unwrap(throwable)));
+		} catch (Throwable t) {
+			result.completeExceptionally(t);
+		}
+	}
+
+	private static Exception unwrap(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+		if (cause instanceof Exception exception) {
+			return exception;
+		}
+		throw (Error) cause;
+	}
+
+	private static RuntimeException rethrow(Throwable throwable) {
+		if (throwable instanceof Error error) {
+			throw error;
+		}
+		if (throwable instanceof RuntimeException exception) {
+			return exception;
+		}
+		return new CompletionException(throwable);
+	}
+
+	/**
+	 * A single stage of the pipeline.
+	 * 
+	 * @param <I> the type of the stage input.
+	 * @param <O> the type of the stage output.
+	 */
+	@FunctionalInterface
+	public interface Stage<I, O> {
+
+		/**
+		 * Applies this stage to an input.
+		 * 
+		 * @param input - the stage input.
+		 * @return The stage output.
+		 * @throws Exception if the stage fails for this input.
+		 */
+		O apply(I input) throws Exception;
+
+	}
+}
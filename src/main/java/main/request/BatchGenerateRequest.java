@@ -0,0 +1,52 @@
+/* Licensed under MIT 2026. */
+package main.request;
+
+import lombok.Getter;
+
+import java.io.File;
+
+/**
+ * A batch generation request. The Request to be returned if the user has
+ * requested to generate the time sheets for many month files at once. All month
+ * files share the same global file and are written to the same output
+ * directory.<br/>
+ * The {@code getType()} method will return {@link RequestType#GENERATE}.
+ */
+@Getter
+public class BatchGenerateRequest extends GenerateRequest {
+	private final File globalFile;
+	private final String monthSource;
+	private final File outputDirectory;
+	private final int parallelism;
+	private final OutputFormat outputFormat;
+	private final String mergeFileName;
+
+	/**
+	 * Creates a new batch generation request.
+	 * 
+	 * @param excludeVacationEntries if vacation entries should not be visible in
+	 *                               the generated time sheets.
+	 * @param globalFile             the global file shared by all month files.
+	 * @param monthSource            a directory containing month files, or a glob
+	 *                               pattern matching the month files, e.g.
+	 *                               {@code months/2024-*.json}.
+	 * @param outputDirectory        the directory the generated files are written
+	 *                               to.
+	 * @param parallelism            the number of month files processed
+	 *                               concurrently.
+	 * @param outputFormat           the format of the generated files.
+	 * @param mergeFileName          the name of a single PDF file in the output
+	 *                               directory all time sheets are merged into, or
+	 *                               {@code null} to generate a file per month.
+	 */
+	public BatchGenerateRequest(boolean excludeVacationEntries, File globalFile, String monthSource, File outputDirectory, int parallelism,
+			OutputFormat outputFormat, String mergeFileName) {
+		super(excludeVacationEntries);
+		this.globalFile = globalFile;
+		this.monthSource = monthSource;
+		this.outputDirectory = outputDirectory;
+		this.parallelism = parallelism;
+		this.outputFormat = outputFormat;
+		this.mergeFileName = mergeFileName;
+	}
+}
@@ -0,0 +1,33 @@
+/* Licensed under MIT 2026. */
+package main.request;
+
+import i18n.ResourceHandler;
+
+/**
+ * The format of the files generated by a batch generation request.
+ */
+public enum OutputFormat {
+	/**
+	 * LaTeX files filled from the LaTeX template
+	 */
+	LATEX("file.tex.extension"),
+	/**
+	 * PDF files with the form of the PDF template filled in
+	 */
+	PDF("file.pdf.extension");
+
+	private final String extensionKey;
+
+	OutputFormat(String extensionKey) {
+		this.extensionKey = extensionKey;
+	}
+
+	/**
+	 * Gets the file extension of the generated files, without a leading dot.
+	 * 
+	 * @return The file extension.
+	 */
+	public String getExtension() {
+		return ResourceHandler.getMessage(extensionKey);
+	}
+}
@@ -0,0 +1,33 @@
+/* Licensed under MIT 2026. */
+package parser;
+
+import parser.json.JsonMonthParser;
+import parser.json.JsonStreamingMonthParser;
+
+/**
+ * The available {@link IMonthParser} implementations for month json strings.
+ */
+public enum MonthParserType {
+	/**
+	 * Binds the json to an intermediate object graph, see {@link JsonMonthParser}.
+	 */
+	DATABIND,
+	/**
+	 * Reads the json token by token without an intermediate object graph, see
+	 * {@link JsonStreamingMonthParser}.
+	 */
+	STREAMING;
+
+	/**
+	 * Creates a new month parser of this type.
+	 * 
+	 * @param json - to parse the data from.
+	 * @return A new month parser.
+	 */
+	public IMonthParser create(String json) {
+		return switch (this) {
+		case DATABIND -> new JsonMonthParser(json);
+		case STREAMING -> new JsonStreamingMonthParser(json);
+		};
+	}
+}
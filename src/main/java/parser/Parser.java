@@ -1,9 +1,12 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser;
 
 import data.*;
 import parser.json.JsonGlobalParser;
-import parser.json.JsonMonthParser;
+import parser.ui.UIGlobalParser;
+import parser.ui.UIMonthParser;
+import ui.json.Global;
+import ui.json.Month;
 
 import java.time.YearMonth;
 
@@ -32,8 +35,75 @@ public class Parser {
 		Employee employee = globalParser.getEmployee();
 		Profession profession = globalParser.getProfession();
 
-		IMonthParser monthParser = new JsonMonthParser(monthJson);
+		return parseTimeSheetJson(employee, profession, monthJson);
+	}
+
+	/**
+	 * Returns a new {@link TimeSheet} constructed out of already parsed global data
+	 * and a month json string. This allows parsing the global data only once when
+	 * generating many time sheets for the same {@link Employee}.
+	 * 
+	 * @param employee   - the employee the time sheet is associated with.
+	 * @param profession - the profession of the employee.
+	 * @param monthJson  - json to get month data from.
+	 * @return A new {@link TimeSheet} instances.
+	 * @throws ParseException if an error occurs while parsing the json string.
+	 */
+	public static TimeSheet parseTimeSheetJson(Employee employee, Profession profession, String monthJson) throws ParseException {
+		return parseTimeSheetJson(employee, profession, monthJson, MonthParserType.DATABIND);
+	}
+
+	/**
+	 * Returns a new {@link TimeSheet} constructed out of already parsed global data
+	 * and a month json string, using the given type of month parser.
+	 * 
+	 * @param employee   - the employee the time sheet is associated with.
+	 * @param profession - the profession of the employee.
+	 * @param monthJson  - json to get month data from.
+	 * @param parserType - the type of month parser to use.
+	 * @return A new {@link TimeSheet} instances.
+	 * @throws ParseException if an error occurs while parsing the json string.
+	 */
+	public static TimeSheet parseTimeSheetJson(Employee employee, Profession profession, String monthJson, MonthParserType parserType)
+			throws ParseException {
+		return parseTimeSheet(employee, profession, parserType.create(monthJson));
+	}
+
+	/**
+	 * Returns a new {@link TimeSheet} constructed out of the global settings and a
+	 * month of the user interface. The settings and the month are converted in
+	 * memory, without writing them to json files first.
+	 * 
+	 * @param global - the global settings to get global data from.
+	 * @param month  - the month to get month data from.
+	 * @return A new {@link TimeSheet} instances.
+	 * @throws ParseException if the settings or the month contain invalid values.
+	 */
+	public static TimeSheet parseTimeSheet(Global global, Month month) throws ParseException {
+		IGlobalParser globalParser = new UIGlobalParser(global);
+
+		Employee employee = globalParser.getEmployee();
+		Profession profession = globalParser.getProfession();
+
+		return parseTimeSheet(employee, profession, month);
+	}
+
+	/**
+	 * Returns a new {@link TimeSheet} constructed out of already parsed global data
+	 * and a month of the user interface. This allows converting the global data
+	 * only once when generating many time sheets for the same {@link Employee}.
+	 * 
+	 * @param employee   - the employee the time sheet is associated with.
+	 * @param profession - the profession of the employee.
+	 * @param month      - the month to get month data from.
+	 * @return A new {@link TimeSheet} instances.
+	 * @throws ParseException if the month contains invalid values.
+	 */
+	public static TimeSheet parseTimeSheet(Employee employee, Profession profession, Month month) throws ParseException {
+		return parseTimeSheet(employee, profession, new UIMonthParser(month));
+	}
 
+	private static TimeSheet parseTimeSheet(Employee employee, Profession profession, IMonthParser monthParser) throws ParseException {
 		YearMonth yearMonth = monthParser.getYearMonth();
 		Entry[] entries = monthParser.getEntries();
 		TimeSpan succTransfer = monthParser.getSuccTransfer();
@@ -1,13 +1,8 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import data.Employee;
 import data.Profession;
 import parser.IGlobalParser;
@@ -19,6 +14,8 @@ import parser.ParseException;
  */
 public class JsonGlobalParser implements IGlobalParser {
 
+	private static final ObjectReader READER = JsonRegistry.reader(GlobalJson.class);
+
 	private final String json;
 
 	private GlobalJson globalJson; // caching
@@ -34,10 +31,7 @@ public class JsonGlobalParser implements IGlobalParser {
 
 	private GlobalJson parseJson() throws JsonProcessingException {
 		if (globalJson == null) {
-			ObjectMapper mapper = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module()).addModule(new JavaTimeModule())
-					.build();
-			mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
-			globalJson = mapper.readValue(json, GlobalJson.class);
+			globalJson = READER.readValue(json);
 		}
 
 		return globalJson;
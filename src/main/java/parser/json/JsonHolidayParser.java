@@ -1,13 +1,9 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser.json;
 
 import checker.holiday.Holiday;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import parser.IHolidayParser;
 import parser.ParseException;
 
@@ -21,6 +17,8 @@ import java.util.stream.Collectors;
 public class JsonHolidayParser implements IHolidayParser {
 
 	private static final String SCHOOL_HOLIDAY_NOTE = "schulfrei";
+	private static final ObjectReader READER = JsonRegistry.reader(HolidayMapJson.class);
+
 	private final String json;
 
 	private HolidayMapJson holidayMap; // caching
@@ -36,9 +34,7 @@ public class JsonHolidayParser implements IHolidayParser {
 
 	private HolidayMapJson parseJson() throws JsonProcessingException {
 		if (holidayMap == null) {
-			ObjectMapper mapper = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module()).addModule(new JavaTimeModule())
-					.build();
-			holidayMap = mapper.readValue(json, HolidayMapJson.class);
+			holidayMap = READER.readValue(json);
 		}
 
 		return holidayMap;
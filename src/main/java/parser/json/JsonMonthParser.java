@@ -1,13 +1,8 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import data.Entry;
 import data.TimeSpan;
 import parser.IMonthParser;
@@ -23,6 +18,8 @@ import java.util.List;
  */
 public class JsonMonthParser implements IMonthParser {
 
+	private static final ObjectReader READER = JsonRegistry.reader(MonthJson.class);
+
 	private final String json;
 
 	private MonthJson monthJson; // caching
@@ -38,10 +35,7 @@ public class JsonMonthParser implements IMonthParser {
 
 	private MonthJson parse() throws JsonProcessingException {
 		if (monthJson == null) {
-			ObjectMapper mapper = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module()).addModule(new JavaTimeModule())
-					.build();
-			mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
-			monthJson = mapper.readValue(json, MonthJson.class);
+			monthJson = READER.readValue(json);
 		}
 
 		return monthJson;
@@ -61,20 +55,16 @@ public class JsonMonthParser implements IMonthParser {
 		List<Entry> entries;
 		try {
 			MonthJson month = parse();
+			YearMonth yearMonth = month.getYearMonth();
 
-			// catching the ParseException is necessary, because Java complains about a
-			// unhandled exception otherwise
-			// declaring the exception is not possible in a lambda function
-			// a workaround is to encapsulate the exception in a RuntimeException, which
-			// doesn't have to be declared
 			// since we expect the RuntimeException caught outside the lambda function to
 			// include the actual exception as the cause,
-			// we need to encapsulate RuntimeExceptions thrown in parseEntry(..) as well
-			// (note that IllegalArgumentException is a RuntimeException as well)
+			// we need to encapsulate RuntimeExceptions thrown in parseEntry(..)
+			// (e.g. IllegalArgumentException or DateTimeException)
 			entries = month.getEntries().stream().map(entry -> {
 				try {
-					return parseEntry(entry);
-				} catch (ParseException | RuntimeException e) {
+					return parseEntry(entry, yearMonth);
+				} catch (RuntimeException e) {
 					throw new RuntimeException(e);
 				}
 			}).toList();
@@ -108,14 +98,12 @@ public class JsonMonthParser implements IMonthParser {
 	/**
 	 * Parses an {@link Entry} from an {@link MonthEntryJson}.
 	 * 
-	 * @param entry - to parse {@link Entry} from
+	 * @param entry     - to parse {@link Entry} from
+	 * @param yearMonth - the {@link YearMonth} of the month the entry belongs to
 	 * @return The entry parsed from the {@link MonthEntryJson}.
-	 * @throws ParseException if an error occurs while fetching the
-	 *                        {@link YearMonth}.
 	 */
-	private Entry parseEntry(MonthEntryJson entry) throws ParseException {
+	private Entry parseEntry(MonthEntryJson entry, YearMonth yearMonth) {
 		// LocalDate construction
-		YearMonth yearMonth = getYearMonth();
 		LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), entry.getDay());
 
 		return new Entry(entry.getAction(), date, entry.getStart(), entry.getEnd(), entry.getPause(), entry.getVacation());
@@ -0,0 +1,72 @@
+/* Licensed under MIT 2026. */
+package parser.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The JsonRegistry provides process-wide, pre-configured {@link ObjectReader}
+ * and {@link ObjectWriter} instances per target type. Building an
+ * {@link ObjectMapper} and warming up its serializer and deserializer caches is
+ * far more expensive than parsing a small json file, so all json parsing and
+ * writing should go through this registry instead of creating new mappers.
+ * <p>
+ * Readers and writers are immutable and thread-safe, so they can be shared
+ * freely. Type specific configuration can be derived from them, e.g. with
+ * {@link ObjectReader#without(DeserializationFeature)}.
+ * </p>
+ */
+public final class JsonRegistry {
+
+	private static final ObjectMapper MAPPER = JsonMapper.builder().addModule(new ParameterNamesModule()).addModule(new Jdk8Module())
+			.addModule(new JavaTimeModule()).enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+
+	private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+	private JsonRegistry() {
+		// Don't allow instances of this class
+	}
+
+	/**
+	 * Returns the shared factory for creating streaming parsers and generators.
+	 * 
+	 * @return The json factory.
+	 */
+	public static JsonFactory factory() {
+		return MAPPER.getFactory();
+	}
+
+	/**
+	 * Returns the shared reader for the given type. Unknown properties are
+	 * rejected.
+	 * 
+	 * @param type - the type to read.
+	 * @return The reader for the given type.
+	 */
+	public static ObjectReader reader(Class<?> type) {
+		return READERS.computeIfAbsent(type, MAPPER::readerFor);
+	}
+
+	/**
+	 * Returns the shared writer for the given type. The output is indented.
+	 * 
+	 * @param type - the type to write.
+	 * @return The writer for the given type.
+	 */
+	public static ObjectWriter writer(Class<?> type) {
+		return WRITERS.computeIfAbsent(type, key -> MAPPER.writerFor(key).with(SerializationFeature.INDENT_OUTPUT));
+	}
+
+}
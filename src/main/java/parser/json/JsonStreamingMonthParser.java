@@ -0,0 +1,311 @@
+/* Licensed under MIT 2026. */
+package parser.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import data.Entry;
+import data.TimeSpan;
+import i18n.ResourceHandler;
+import parser.IMonthParser;
+import parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A JsonStreamingMonthParser provides the functionality to parse the elements
+ * specified by {@link IMonthParser} from a json string or reader. In contrast to
+ * {@link JsonMonthParser}, the json is not bound to an intermediate object
+ * graph, but read token by token, and the {@link Entry entries} are constructed
+ * in a single pass. This keeps the memory footprint low for large month files.
+ * <p>
+ * The accepted json is the same as for {@link JsonMonthParser}: unknown
+ * properties are rejected, the {@code $schema} property is ignored and the
+ * {@code year}, {@code month} and {@code entries} properties are required.
+ * Scalar values are coerced the way databind does it, e.g. {@code "2019"} is
+ * read as a number, {@code "true"} as a boolean and {@code null} as the default
+ * of the property type.
+ * </p>
+ */
+public class JsonStreamingMonthParser implements IMonthParser {
+
+	private static final String ROOT = "$";
+	private static final String SCHEMA = "$schema";
+	private static final String YEAR = "year";
+	private static final String MONTH = "month";
+	private static final String PRED_TRANSFER = "pred_transfer";
+	private static final String SUCC_TRANSFER = "succ_transfer";
+	private static final String ENTRIES = "entries";
+	private static final String ACTION = "action";
+	private static final String DAY = "day";
+	private static final String START = "start";
+	private static final String END = "end";
+	private static final String PAUSE = "pause";
+	private static final String VACATION = "vacation";
+	private static final String NULL = "null";
+
+	private final String json;
+	private final Reader reader;
+
+	// caching
+	private YearMonth yearMonth;
+	private Entry[] entries;
+	private TimeSpan predTransfer;
+	private TimeSpan succTransfer;
+
+	/**
+	 * Constructs a new {@link JsonStreamingMonthParser} instance.
+	 * 
+	 * @param json - to parse the data from.
+	 */
+	public JsonStreamingMonthParser(String json) {
+		this.json = json;
+		this.reader = null;
+	}
+
+	/**
+	 * Constructs a new {@link JsonStreamingMonthParser} instance reading from a
+	 * {@link Reader}. The reader is consumed and closed on the first access to the
+	 * parsed data.
+	 * 
+	 * @param reader - to parse the data from.
+	 */
+	public JsonStreamingMonthParser(Reader reader) {
+		this.json = null;
+		this.reader = reader;
+	}
+
+	@Override
+	public YearMonth getYearMonth() throws ParseException {
+		parse();
+		return yearMonth;
+	}
+
+	@Override
+	public Entry[] getEntries() throws ParseException {
+		parse();
+		return entries.clone();
+	}
+
+	@Override
+	public TimeSpan getSuccTransfer() throws ParseException {
+		parse();
+		return succTransfer;
+	}
+
+	@Override
+	public TimeSpan getPredTransfer() throws ParseException {
+		parse();
+		return predTransfer;
+	}
+
+	private void parse() throws ParseException {
+		if (entries != null) {
+			return;
+		}
+
+		try (JsonParser parser = json != null ? JsonRegistry.factory().createParser(json) : JsonRegistry.factory().createParser(reader)) {
+			parseMonth(parser);
+		} catch (IOException e) {
+			throw new ParseException(e.getMessage());
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// thrown by TimeSpan, Entry, YearMonth and LocalDate for invalid values
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+	private void parseMonth(JsonParser parser) throws IOException, ParseException {
+		expect(parser.nextToken(), JsonToken.START_OBJECT, ROOT);
+
+		Integer year = null;
+		Integer month = null;
+		TimeSpan pred = TimeSpan.ofMinutes(0); // default
+		TimeSpan succ = TimeSpan.ofMinutes(0); // default
+		List<Entry> parsedEntries = null;
+		List<PendingEntry> pendingEntries = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String property = parser.currentName();
+			JsonToken token = parser.nextToken();
+			switch (property) {
+			case SCHEMA -> parser.skipChildren();
+			case YEAR -> year = readInt(parser, token, property);
+			case MONTH -> month = readInt(parser, token, property);
+			case PRED_TRANSFER -> pred = readTimeSpan(parser, token, property);
+			case SUCC_TRANSFER -> succ = readTimeSpan(parser, token, property);
+			case ENTRIES -> {
+				expect(token, JsonToken.START_ARRAY, property);
+				// Entries need the year and month for their date. In the rare case that they
+				// are not known yet, the entries are kept until the end of the object.
+				YearMonth known = year != null && month != null ? YearMonth.of(year, month) : null;
+				parsedEntries = new ArrayList<>();
+				pendingEntries = known == null ? new ArrayList<>() : null;
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					readEntry(parser, known, parsedEntries, pendingEntries);
+				}
+			}
+			default -> throw unknownProperty(property);
+			}
+		}
+
+		requireProperty(year, YEAR);
+		requireProperty(month, MONTH);
+		requireProperty(parsedEntries, ENTRIES);
+
+		this.yearMonth = YearMonth.of(year, month);
+		if (pendingEntries != null) {
+			for (PendingEntry entry : pendingEntries) {
+				parsedEntries.add(entry.toEntry(yearMonth));
+			}
+		}
+		this.predTransfer = pred;
+		this.succTransfer = succ;
+		this.entries = parsedEntries.toArray(new Entry[0]);
+	}
+
+	private static void readEntry(JsonParser parser, YearMonth yearMonth, List<Entry> parsedEntries, List<PendingEntry> pendingEntries)
+			throws IOException, ParseException {
+		expect(parser.currentToken(), JsonToken.START_OBJECT, ENTRIES);
+
+		boolean hasAction = false; // the action may be null
+		String action = null;
+		Integer day = null;
+		TimeSpan start = null;
+		TimeSpan end = null;
+		TimeSpan pause = TimeSpan.ofMinutes(0); // default
+		boolean vacation = false; // default
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String property = parser.currentName();
+			JsonToken token = parser.nextToken();
+			switch (property) {
+			case ACTION -> {
+				action = readString(parser, token, property);
+				hasAction = true;
+			}
+			case DAY -> day = readInt(parser, token, property);
+			case START -> start = readTimeSpan(parser, token, property);
+			case END -> end = readTimeSpan(parser, token, property);
+			case PAUSE -> pause = readTimeSpan(parser, token, property);
+			case VACATION -> vacation = readBoolean(parser, token, property);
+			default -> throw unknownProperty(property);
+			}
+		}
+
+		if (!hasAction) {
+			throw missingProperty(ACTION);
+		}
+		requireProperty(day, DAY);
+		requireProperty(start, START);
+		requireProperty(end, END);
+		if (yearMonth != null) {
+			parsedEntries.add(createEntry(yearMonth, action, day, start, end, pause, vacation));
+		} else {
+			pendingEntries.add(new PendingEntry(action, day, start, end, pause, vacation));
+		}
+	}
+
+	private static Entry createEntry(YearMonth yearMonth, String action, int day, TimeSpan start, TimeSpan end, TimeSpan pause, boolean vacation) {
+		LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), day);
+		return new Entry(action, date, start, end, pause, vacation);
+	}
+
+	private static int readInt(JsonParser parser, JsonToken token, String property) throws IOException, ParseException {
+		return switch (token) {
+		case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue(); // fractions are truncated
+		case VALUE_STRING -> {
+			String text = parser.getText().trim();
+			if (text.isEmpty() || text.equals(NULL)) {
+				yield 0;
+			}
+			try {
+				yield Integer.parseInt(text);
+			} catch (NumberFormatException e) {
+				throw invalidValue(text, property);
+			}
+		}
+		case VALUE_NULL -> 0;
+		default -> throw unexpectedToken(token, property);
+		};
+	}
+
+	private static boolean readBoolean(JsonParser parser, JsonToken token, String property) throws IOException, ParseException {
+		return switch (token) {
+		case VALUE_TRUE -> true;
+		case VALUE_FALSE, VALUE_NULL -> false;
+		case VALUE_NUMBER_INT -> parser.getIntValue() != 0;
+		case VALUE_STRING -> {
+			String text = parser.getText().trim();
+			yield switch (text) {
+			case "true", "True", "TRUE" -> true;
+			case "false", "False", "FALSE", "", NULL -> false;
+			default -> throw invalidValue(text, property);
+			};
+		}
+		default -> throw unexpectedToken(token, property);
+		};
+	}
+
+	private static String readString(JsonParser parser, JsonToken token, String property) throws IOException, ParseException {
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (!token.isScalarValue()) {
+			throw unexpectedToken(token, property);
+		}
+		return parser.getText();
+	}
+
+	private static TimeSpan readTimeSpan(JsonParser parser, JsonToken token, String property) throws IOException, ParseException {
+		String text = readString(parser, token, property);
+		if (text == null) {
+			throw unexpectedToken(token, property);
+		}
+		return TimeSpan.parse(text);
+	}
+
+	private static void expect(JsonToken actual, JsonToken expected, String property) throws ParseException {
+		if (actual != expected) {
+			throw unexpectedToken(actual, property);
+		}
+	}
+
+	private static void requireProperty(Object value, String property) throws ParseException {
+		if (value == null) {
+			throw missingProperty(property);
+		}
+	}
+
+	private static ParseException missingProperty(String property) {
+		return new ParseException(ResourceHandler.getMessage("error.json.missingProperty", property));
+	}
+
+	private static ParseException unexpectedToken(JsonToken token, String property) {
+		return new ParseException(ResourceHandler.getMessage("error.json.unexpectedToken", String.valueOf(token), property));
+	}
+
+	private static ParseException invalidValue(String value, String property) {
+		return new ParseException(ResourceHandler.getMessage("error.json.invalidValue", value, property));
+	}
+
+	private static ParseException unknownProperty(String property) {
+		return new ParseException(ResourceHandler.getMessage("error.json.unknownProperty", property));
+	}
+
+	/**
+	 * The values of a month entry that was read before the year and month. Used to
+	 * construct the {@link Entry} once they are known.
+	 */
+	private record PendingEntry(String action, int day, TimeSpan start, TimeSpan end, TimeSpan pause, boolean vacation) {
+
+		Entry toEntry(YearMonth yearMonth) {
+			return createEntry(yearMonth, action, day, start, end, pause, vacation);
+		}
+	}
+
+}
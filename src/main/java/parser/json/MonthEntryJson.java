@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser.json;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -21,7 +21,7 @@ class MonthEntryJson {
 		this.day = day;
 		this.start = TimeSpan.parse(start);
 		this.end = TimeSpan.parse(end);
-		this.pause = new TimeSpan(0, 0); // default
+		this.pause = TimeSpan.ofMinutes(0); // default
 		this.vacation = false; // default
 	}
 
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package parser.json;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -22,8 +22,8 @@ class MonthJson {
 	MonthJson(@JsonProperty(value = "year", required = true) int year, @JsonProperty(value = "month", required = true) int month,
 			@JsonProperty(value = "entries", required = true) List<MonthEntryJson> entries) {
 		this.yearMonth = YearMonth.of(year, month);
-		this.predTransfer = new TimeSpan(0, 0); // default
-		this.succTransfer = new TimeSpan(0, 0); // default
+		this.predTransfer = TimeSpan.ofMinutes(0); // default
+		this.succTransfer = TimeSpan.ofMinutes(0); // default
 		this.entries = new ArrayList<>(entries);
 	}
 
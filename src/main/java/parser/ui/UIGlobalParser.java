@@ -0,0 +1,56 @@
+/* Licensed under MIT 2026. */
+package parser.ui;
+
+import data.Employee;
+import data.Profession;
+import data.TimeSpan;
+import data.WorkingArea;
+import i18n.ResourceHandler;
+import parser.IGlobalParser;
+import parser.ParseException;
+import ui.json.Global;
+
+/**
+ * A UIGlobalParser provides the functionality to parse the elements specified
+ * by {@link IGlobalParser} from the {@link Global global settings} of the user
+ * interface. The settings are converted directly, without writing them to a
+ * json file and parsing that file again.
+ * <p>
+ * The accepted values are the same as for the json of the global settings.
+ * </p>
+ */
+public class UIGlobalParser implements IGlobalParser {
+
+	private final Global global;
+
+	/**
+	 * Constructs a new {@link UIGlobalParser} instance.
+	 * 
+	 * @param global - to parse the data from.
+	 */
+	public UIGlobalParser(Global global) {
+		this.global = global;
+	}
+
+	@Override
+	public Employee getEmployee() {
+		return new Employee(global.getName(), global.getStaffId());
+	}
+
+	@Override
+	public Profession getProfession() throws ParseException {
+		TimeSpan workingTime = UIMonthParser.parseRequired(global.getWorkingTime(), "workingTime");
+		if (global.getWorkingArea() == null) {
+			throw new ParseException(ResourceHandler.getMessage("error.json.missingProperty", "workingArea"));
+		}
+
+		WorkingArea workingArea;
+		try {
+			workingArea = WorkingArea.parse(global.getWorkingArea());
+		} catch (IllegalArgumentException e) {
+			throw new ParseException(e.getMessage());
+		}
+		return new Profession(global.getDepartment(), workingArea, workingTime, global.getWage());
+	}
+
+}
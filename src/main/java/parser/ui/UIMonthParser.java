@@ -0,0 +1,121 @@
+/* Licensed under MIT 2026. */
+package parser.ui;
+
+import data.Entry;
+import data.TimeSpan;
+import i18n.ResourceHandler;
+import parser.IMonthParser;
+import parser.ParseException;
+import ui.json.Month;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * A UIMonthParser provides the functionality to parse the elements specified by
+ * {@link IMonthParser} from a {@link Month} of the user interface. The month is
+ * converted directly, without writing it to a json file and parsing that file
+ * again.
+ * <p>
+ * The result is the same as for the json the month would be saved as: missing
+ * transfers and pauses default to zero, and the pause of a vacation entry is
+ * ignored, since it is not saved either.
+ * </p>
+ */
+public class UIMonthParser implements IMonthParser {
+
+	private final Month month;
+
+	/**
+	 * Constructs a new {@link UIMonthParser} instance.
+	 * 
+	 * @param month - to parse the data from.
+	 */
+	public UIMonthParser(Month month) {
+		this.month = month;
+	}
+
+	@Override
+	public YearMonth getYearMonth() throws ParseException {
+		try {
+			return YearMonth.of(month.getYear(), month.getMonth());
+		} catch (DateTimeException e) {
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+	@Override
+	public Entry[] getEntries() throws ParseException {
+		YearMonth yearMonth = getYearMonth();
+		List<Month.Entry> monthEntries = month.getEntries() == null ? List.of() : month.getEntries();
+
+		Entry[] entries = new Entry[monthEntries.size()];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = parseEntry(monthEntries.get(i), yearMonth);
+		}
+		return entries;
+	}
+
+	@Override
+	public TimeSpan getSuccTransfer() throws ParseException {
+		return parseOptional(month.getSuccTransfer());
+	}
+
+	@Override
+	public TimeSpan getPredTransfer() throws ParseException {
+		return parseOptional(month.getPredTransfer());
+	}
+
+	/**
+	 * Parses an {@link Entry} from a {@link Month.Entry}.
+	 * 
+	 * @param entry     - to parse {@link Entry} from
+	 * @param yearMonth - the {@link YearMonth} of the month the entry belongs to
+	 * @return The entry parsed from the {@link Month.Entry}.
+	 * @throws ParseException if a value of the entry is invalid.
+	 */
+	private static Entry parseEntry(Month.Entry entry, YearMonth yearMonth) throws ParseException {
+		TimeSpan start = parseRequired(entry.getStart(), "start");
+		TimeSpan end = parseRequired(entry.getEnd(), "end");
+		TimeSpan pause = entry.isVacation() ? TimeSpan.ofMinutes(0) : parseOptional(entry.getPause());
+
+		try {
+			LocalDate date = LocalDate.of(yearMonth.getYear(), yearMonth.getMonth(), entry.getDay());
+			return new Entry(entry.getAction(), date, start, end, pause, entry.isVacation());
+		} catch (IllegalArgumentException | DateTimeException e) {
+			// thrown by Entry and LocalDate for invalid values
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Parses a {@link TimeSpan} that has to be present.
+	 * 
+	 * @param value    - the value to parse.
+	 * @param property - the json property of the value, used in the error
+	 *                 message.
+	 * @return The parsed {@link TimeSpan}.
+	 * @throws ParseException if the value is missing or invalid.
+	 */
+	static TimeSpan parseRequired(String value, String property) throws ParseException {
+		if (value == null) {
+			throw new ParseException(ResourceHandler.getMessage("error.json.missingProperty", property));
+		}
+		return parse(value);
+	}
+
+	private static TimeSpan parseOptional(String value) throws ParseException {
+		return value == null ? TimeSpan.ofMinutes(0) : parse(value);
+	}
+
+	private static TimeSpan parse(String value) throws ParseException {
+		try {
+			return TimeSpan.parse(value);
+		} catch (IllegalArgumentException e) {
+			throw new ParseException(e.getMessage());
+		}
+	}
+
+}
@@ -1,6 +1,9 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui;
 
+import data.TimeFormat;
+import data.TimeScanner;
+
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
@@ -14,8 +17,6 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.time.Duration;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,7 +33,12 @@ public final class DialogHelper {
 	static final Pattern TIME_PATTERN = Pattern.compile("^(\\d{1,2}):(\\d{2})$");
 	static final Pattern TIME_PATTERN_SMALL = Pattern.compile("^(\\d{1,2})$");
 	static final Pattern TIME_PATTERN_SEMI_SMALL = Pattern.compile("^(\\d{1,2}):(\\d)$");
-	private static final String TIME_FORMAT = "%02d:%02d";
+	static final String TIME_SEPARATOR = ":";
+	// Same format as TIME_PATTERN, minutes above 59 are carried over by Time
+	static final TimeScanner TIME_SCANNER = new TimeScanner(2, 2, 2, 99);
+	private static final String ALTERNATIVE_TIME_SEPARATOR = ".";
+	private static final TimeScanner LOCAL_TIME_SCANNER = new TimeScanner(Integer.MAX_VALUE, 2, 2, 59);
+	private static final int MINUTES_PER_DAY = 24 * 60;
 
 	private static final int MAX_TEXT_LENGTH_ACTIVITY = 30;
 	private static final int MIN_BREAK_SIX_HOURS = 30;
@@ -447,7 +453,7 @@ public final class DialogHelper {
 			} else {
 				errorLabel.setText("Invalid time");
 			}
-			timeField.setText(TIME_FORMAT.formatted(hours, minutes));
+			timeField.setText(TimeFormat.formatTime(hours, minutes));
 		} else {
 			errorLabel.setText("Invalid time");
 		}
@@ -560,12 +566,12 @@ public final class DialogHelper {
 	public static LocalTime parseTime(String timeStr) {
 		if (timeStr == null)
 			return LocalTime.of(0, 0);
-		try {
-			String time = timeStr.replace('.', ':');
-			return LocalTime.parse(time, DateTimeFormatter.ofPattern("H:mm"));
-		} catch (DateTimeParseException e) {
+		int minutes = LOCAL_TIME_SCANNER.scan(timeStr, TIME_SEPARATOR);
+		if (minutes == TimeScanner.NO_MATCH)
+			minutes = LOCAL_TIME_SCANNER.scan(timeStr, ALTERNATIVE_TIME_SEPARATOR);
+		if (minutes == TimeScanner.NO_MATCH || minutes >= MINUTES_PER_DAY)
 			return LocalTime.of(0, 0);
-		}
+		return LocalTime.of(minutes / 60, minutes % 60);
 	}
 
 	public static boolean isValidTimeFormat(String s) {
@@ -1,11 +1,11 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui;
 
+import data.TimeFormat;
+import data.TimeScanner;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.regex.Matcher;
-
 @Getter
 public class Time {
 	@Setter
@@ -74,15 +74,15 @@ public class Time {
 	public static Time parseTime(String string) {
 		if (string == null)
 			return new Time(0, 0);
-		Matcher matcher = DialogHelper.TIME_PATTERN.matcher(string);
-		if (!matcher.matches())
+		int minutes = DialogHelper.TIME_SCANNER.scan(string, DialogHelper.TIME_SEPARATOR);
+		if (minutes == TimeScanner.NO_MATCH)
 			return new Time();
-		return new Time(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+		return new Time(minutes / 60, minutes % 60);
 	}
 
 	@Override
 	public String toString() {
-		return String.format("%02d:%02d", hours, minutes);
+		return TimeFormat.formatTime(hours, minutes);
 	}
 
 	/**
@@ -1,6 +1,7 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui;
 
+import data.TimeFormat;
 import lombok.Getter;
 import ui.json.Month;
 
@@ -13,8 +14,6 @@ public class TimesheetEntry {
 	public static final String TIMESHEET_FORMAT = " %-40s      %-10s %-25s %-25s %-25s %-25s %-25s";
 	public static final String COMPRESSED_TIMESHEET_FORMAT = "%s, %s. %s - %s, Break: %s, Vacation: %s";
 
-	private static final String TIME_FORMAT = "%02d:%02d";
-
 	public static final TimesheetEntry EMPTY_ENTRY = new TimesheetEntry("", -1, Time.none(), Time.none(), Time.none(), false);
 
 	@Getter
@@ -129,25 +128,25 @@ public class TimesheetEntry {
 	public String getDayString() {
 		if (day == -1)
 			return "";
-		return String.format("%02d", day);
+		return TimeFormat.formatTwoDigits(day);
 	}
 
 	public String getStartTimeString() {
 		if (fromHour == -1)
 			return "";
-		return String.format(TIME_FORMAT, fromHour, fromMinute);
+		return TimeFormat.formatTime(fromHour, fromMinute);
 	}
 
 	public String getEndTimeString() {
 		if (fromHour == -1)
 			return "";
-		return String.format(TIME_FORMAT, toHour, toMinute);
+		return TimeFormat.formatTime(toHour, toMinute);
 	}
 
 	public String getBreakTimeString() {
 		if (fromHour == -1)
 			return "";
-		return String.format(TIME_FORMAT, breakHour, breakMinutes);
+		return TimeFormat.formatTime(breakHour, breakMinutes);
 	}
 
 	public String getTotalTimeWorkedString() {
@@ -163,7 +162,7 @@ public class TimesheetEntry {
 			minutesWorked += 60;
 			hoursWorked--;
 		}
-		return String.format(TIME_FORMAT, hoursWorked, minutesWorked);
+		return TimeFormat.formatTime(hoursWorked, minutesWorked);
 	}
 
 	public Time getWorkedTime() {
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui;
 
 import lombok.Getter;
@@ -304,10 +304,6 @@ public class UserInterface {
 		return hasUnsavedChanges;
 	}
 
-	public File generateTempMonthFile() {
-		return JSONHandler.generateTemporaryJSONFile(monthSettingsBar, listModel);
-	}
-
 	public Time getPredTime() {
 		return monthSettingsBar.getPredTime();
 	}
@@ -1,13 +1,18 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui.export;
 
 import checker.ExportType;
+import data.TimeSheet;
+import parser.ParseException;
 import ui.ErrorHandler;
 import ui.UserInterface;
 import ui.fileexplorer.FileChooser;
+import ui.json.Global;
 import ui.json.JSONHandler;
+import ui.json.Month;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 
 public final class FileExporter {
@@ -17,57 +22,73 @@ public final class FileExporter {
 	}
 
 	public static void printTex(UserInterface parentUi) {
-		try (TempFiles tempFiles = TempFiles.generateNewTemp(parentUi)) {
-			if (tempFiles == null) {
-				ErrorHandler.showError("Failed to create temporary file", "Could not create month.json file. If you have unsaved changes, try saving.");
-				return;
-			}
-
-			Optional<String> error = TexCompiler.validateContents(tempFiles, ExportType.EXPORT_LATEX);
-			if (error.isPresent()) {
-				error("Validation error", error.get());
-				return;
-			}
-
-			File texFile = FileChooser.chooseCreateTexFile(parentUi, "Compile to Tex");
-			if (texFile == null)
-				return; // Cancelled
-
-			TexCompiler.compileToTex(tempFiles.getMonthFile(), texFile);
-
-			if (!texFile.exists()) {
-				error("Latex compiler error", "Tex file creation failed!");
-			}
+		Optional<TimeSheet> timeSheet = validate(JSONHandler.getGlobalSettings(), parentUi.getCurrentMonth(), ExportType.EXPORT_LATEX);
+		if (timeSheet.isEmpty())
+			return;
+
+		File texFile = FileChooser.chooseCreateTexFile(parentUi, "Compile to Tex");
+		if (texFile == null)
+			return; // Cancelled
+
+		try {
+			TexCompiler.compileToTex(timeSheet.get(), texFile);
+		} catch (IOException e) {
+			error("Latex compiler error", e.getMessage());
+			return;
+		}
+
+		if (!texFile.exists()) {
+			error("Latex compiler error", "Tex file creation failed!");
 		}
 	}
 
 	public static void printPDF(UserInterface parentUi) {
-		try (TempFiles tempFiles = TempFiles.generateNewTemp(parentUi)) {
-			if (tempFiles == null)
-				return;
-
-			Optional<String> error = TexCompiler.validateContents(tempFiles, ExportType.EXPORT_PDF);
-			if (error.isPresent()) {
-				error("Validation error", error.get());
-				return;
-			}
-
-			File pdfFile = FileChooser.chooseCreatePDFFile(parentUi, "Print to PDF");
-			if (pdfFile == null) {
-				return; // Cancelled
-			}
-
-			error = PDFCompiler.compileToPDF(JSONHandler.getGlobalSettings(), parentUi.getCurrentMonth(), pdfFile, JSONHandler.getUISettings());
-
-			if (error.isPresent()) {
-				error("PDF compiler error", error.get());
-				return;
-			}
-
-			if (!pdfFile.exists()) {
-				error("Failed to create PDF", "PDF file creation failed! Perhaps try to compile to tex?");
-			}
+		Global global = JSONHandler.getGlobalSettings();
+		Month month = parentUi.getCurrentMonth();
+		if (validate(global, month, ExportType.EXPORT_PDF).isEmpty())
+			return;
+
+		File pdfFile = FileChooser.chooseCreatePDFFile(parentUi, "Print to PDF");
+		if (pdfFile == null) {
+			return; // Cancelled
+		}
+
+		Optional<String> error = PDFCompiler.compileToPDF(global, month, pdfFile, JSONHandler.getUISettings());
+
+		if (error.isPresent()) {
+			error("PDF compiler error", error.get());
+			return;
+		}
+
+		if (!pdfFile.exists()) {
+			error("Failed to create PDF", "PDF file creation failed! Perhaps try to compile to tex?");
+		}
+	}
+
+	/**
+	 * Parses and checks the current month exactly once. Shows the error if the
+	 * month is invalid.
+	 * 
+	 * @param global     The global settings.
+	 * @param month      The month to validate.
+	 * @param exportType The type of file that is being exported to.
+	 * @return The checked timesheet, or an empty optional if the month is invalid.
+	 */
+	private static Optional<TimeSheet> validate(Global global, Month month, ExportType exportType) {
+		TimeSheet timeSheet;
+		try {
+			timeSheet = TexCompiler.parseContents(global, month);
+		} catch (ParseException e) {
+			error("Validation error", e.getMessage());
+			return Optional.empty();
+		}
+
+		Optional<String> error = TexCompiler.validateContents(timeSheet, exportType);
+		if (error.isPresent()) {
+			error("Validation error", error.get());
+			return Optional.empty();
 		}
+		return Optional.of(timeSheet);
 	}
 
 	private static void error(String title, String error) {
@@ -0,0 +1,118 @@
+/* Licensed under MIT 2026. */
+package ui.export;
+
+import io.FileController;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import ui.json.Global;
+import ui.json.Month;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A single PDF document collecting the filled time sheets of many months and
+ * employees. Time sheets are appended one after another, each source document
+ * is closed right after its pages have been copied. Content streams exceeding
+ * the heap limit of the {@link PDFMemorySettings} are kept in a scratch file, so
+ * an archive of thousands of pages mostly needs memory for the document
+ * structure.
+ * <p>
+ * The pages of the archive are always flattened, since the form fields of
+ * different time sheets share the same names and could not coexist in one
+ * form.
+ */
+public class PDFArchive implements Closeable {
+
+	private final StreamCacheCreateFunction streamCache;
+	private final PDDocument document;
+	private final PDFMergerUtility merger;
+
+	/**
+	 * Constructs a new, empty {@link PDFArchive} using the memory settings of the
+	 * {@link PDFCompiler}.
+	 */
+	public PDFArchive() {
+		this(PDFCompiler.getMemorySettings());
+	}
+
+	/**
+	 * Constructs a new, empty {@link PDFArchive}.
+	 *
+	 * @param memorySettings - the memory settings of the archive and of each
+	 *                       document appended from a file.
+	 */
+	public PDFArchive(PDFMemorySettings memorySettings) {
+		this.streamCache = memorySettings.createStreamCache();
+		this.document = new PDDocument(streamCache);
+		this.merger = new PDFMergerUtility();
+	}
+
+	/**
+	 * Fills a copy of the PDF template and appends its flattened pages to the
+	 * archive.
+	 *
+	 * @param global  - the global settings.
+	 * @param month   - the month to fill in.
+	 * @param options - the options for filling the template. The pages are
+	 *                flattened regardless of {@link PDFOptions#flatten()}.
+	 * @throws IOException if the template cannot be loaded or the pages cannot be
+	 *                     appended.
+	 */
+	public void add(Global global, Month month, PDFOptions options) throws IOException {
+		PDFOptions flattened = new PDFOptions(options.addSignature(), options.addVacationEntries(), options.useYYYY(), options.useGermanMonths(), true);
+		PDFCompiler.export(global, month, flattened, this::append);
+	}
+
+	/**
+	 * Appends the pages of an already filled and flattened PDF document to the
+	 * archive.
+	 *
+	 * @param source - the PDF document to append.
+	 * @throws IOException if the document cannot be read or its pages cannot be
+	 *                     appended.
+	 */
+	public void add(File source) throws IOException {
+		try (PDDocument sourceDocument = Loader.loadPDF(source, streamCache)) {
+			append(sourceDocument);
+		}
+	}
+
+	private void append(PDDocument source) throws IOException {
+		// The merger copies all objects of the source, so the source can be closed
+		// as soon as this returns
+		merger.appendDocument(document, source);
+	}
+
+	/**
+	 * Gets the number of pages appended to the archive so far.
+	 *
+	 * @return The number of pages.
+	 */
+	public int getNumberOfPages() {
+		return document.getNumberOfPages();
+	}
+
+	/**
+	 * Writes the archive to a file, replacing it atomically. More pages can be
+	 * appended afterwards.
+	 *
+	 * @param targetFile - the file to write the archive to.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void save(File targetFile) throws IOException {
+		FileController.writeAtomically(targetFile.toPath(), document::save);
+	}
+
+	/**
+	 * Closes the archive and deletes its scratch file. Pages that have not been
+	 * {@link #save(File) saved} are lost.
+	 */
+	@Override
+	public void close() throws IOException {
+		document.close();
+	}
+}
@@ -1,54 +1,134 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui.export;
 
-import org.apache.pdfbox.Loader;
+import data.TimeFormat;
+import io.FileController;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
 import ui.Time;
+import ui.export.PDFTemplate.RowField;
 import ui.json.Global;
-import ui.json.JSONHandler;
 import ui.json.Month;
 import ui.json.UISettings;
 
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 public class PDFCompiler {
-	private static final String DATE_FORMAT_2_DIGITS = "dd.MM.yy";
-	private static final String DATE_FORMAT_4_DIGITS = "dd.MM.yyyy";
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+	private static volatile PDFMemorySettings memorySettings = PDFMemorySettings.DEFAULT;
+	private static volatile Consumer<PDFExportMetrics> metricsListener;
 
 	private PDFCompiler() {
 		throw new IllegalAccessError();
 	}
 
-	public static Optional<String> compileToPDF(Global global, Month month, File targetFile, UISettings uiSettings) {
-		try (InputStream templateStream = PDFCompiler.class.getResourceAsStream("/pdf/template.pdf")) {
-			if (templateStream == null) {
-				return Optional.of("Template PDF not found in resources.");
-			}
+	/**
+	 * Gets the memory settings used for every exported document.
+	 *
+	 * @return The memory settings.
+	 */
+	public static PDFMemorySettings getMemorySettings() {
+		return memorySettings;
+	}
 
-			PDDocument document = Loader.loadPDF(templateStream.readAllBytes());
-			return writeToPDF(document, global, month, targetFile, uiSettings);
+	/**
+	 * Sets the memory settings used for every document exported afterwards.
+	 *
+	 * @param settings - the memory settings.
+	 */
+	public static void setMemorySettings(PDFMemorySettings settings) {
+		memorySettings = Objects.requireNonNull(settings);
+	}
 
+	/**
+	 * Sets a listener that is called with the measurements of every completed
+	 * export, on the thread that exported the document. Nothing is measured while
+	 * no listener is set.
+	 *
+	 * @param listener - the listener, or {@code null} to remove it.
+	 */
+	public static void setMetricsListener(Consumer<PDFExportMetrics> listener) {
+		metricsListener = listener;
+	}
+
+	public static Optional<String> compileToPDF(Global global, Month month, File targetFile, UISettings uiSettings) {
+		try {
+			export(global, month, PDFOptions.of(uiSettings), document -> FileController.writeAtomically(targetFile.toPath(), document::save));
+			return Optional.empty();
 		} catch (IOException e) {
 			return Optional.of(e.getMessage());
 		}
 	}
 
-	private static Optional<String> writeToPDF(PDDocument document, Global global, Month month, File targetFile, UISettings uiSettings) throws IOException {
-		PDAcroForm form = document.getDocumentCatalog().getAcroForm();
-		if (form == null) {
-			return Optional.of("No form found in the document. Nothing we can do, sorry.");
+	/**
+	 * Fills a copy of the PDF template and writes it to a stream. This does not
+	 * depend on the state of the user interface, so it can be used headless and
+	 * concurrently. Every call works on its own document, only the parsed template
+	 * is shared.
+	 *
+	 * @param global  - the global settings.
+	 * @param month   - the month to fill in.
+	 * @param out     - the stream to write the filled document to. It is not
+	 *                closed.
+	 * @param options - the options for filling the template.
+	 * @throws IOException if the template cannot be loaded or the document cannot
+	 *                     be written.
+	 */
+	public static void compileToPDF(Global global, Month month, OutputStream out, PDFOptions options) throws IOException {
+		export(global, month, options, document -> document.save(out));
+	}
+
+	/**
+	 * Fills a copy of the PDF template and passes the filled document on. The copy
+	 * is closed afterwards, also if filling or the consumer fails.
+	 *
+	 * @param global   - the global settings.
+	 * @param month    - the month to fill in.
+	 * @param options  - the options for filling the template.
+	 * @param consumer - uses the filled document before it is closed.
+	 * @throws IOException if the template cannot be loaded or the consumer fails.
+	 */
+	static void export(Global global, Month month, PDFOptions options, DocumentConsumer consumer) throws IOException {
+		Consumer<PDFExportMetrics> listener = metricsListener;
+		long startBytes = listener == null ? 0 : getAllocatedBytes();
+		long startTime = System.nanoTime();
+
+		try (PDFTemplate.Form form = PDFTemplate.get().open(memorySettings.createStreamCache())) {
+			fillForm(form, global, month, options);
+			consumer.accept(form.getDocument());
 		}
 
+		if (listener != null) {
+			long endBytes = getAllocatedBytes();
+			listener.accept(new PDFExportMetrics(startBytes < 0 || endBytes < 0 ? -1 : endBytes - startBytes, System.nanoTime() - startTime));
+		}
+	}
+
+	/**
+	 * Gets the heap memory allocated by the current thread so far.
+	 *
+	 * @return The allocated bytes, or {@code -1} if the JVM cannot measure them.
+	 */
+	private static long getAllocatedBytes() {
+		if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return threadMXBean.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	private static void fillForm(PDFTemplate.Form form, Global global, Month month, PDFOptions options) throws IOException {
 		form.getField("GF").setValue(global.getNameFormalFormat()); // Name
-		form.getField("abc").setValue(getMonth(month, uiSettings)); // Month
+		form.getField("abc").setValue(getMonth(month, options)); // Month
 		form.getField("abdd").setValue(String.valueOf(month.getYear())); // Year
 		form.getField("Personalnummer").setValue(String.valueOf(global.getStaffId())); // Personalnummer
 		if (global.getWorkingArea().equals("gf")) {
@@ -71,14 +151,12 @@ public class PDFCompiler {
 
 		try {
 			form.getField("Ich bestätige die Richtigkeit der Angaben")
-					.setValue("%s, %s".formatted(DateTimeFormatter.ofPattern(DATE_FORMAT_4_DIGITS).format(LocalDateTime.now()),
-							JSONHandler.getUISettings().isAddSignature() ? global.getName() : ""));
+					.setValue("%s, %s".formatted(TimeFormat.formatDate(LocalDate.now(), true),
+							options.addSignature() ? global.getName() : ""));
 		} catch (EOFException ignored) {
 			Logger.getGlobal().warning("Could not load font for signature field when exporting to PDF. Proceeding with default.");
 		}
 
-		final DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern(uiSettings.isUseYYYY() ? DATE_FORMAT_4_DIGITS : DATE_FORMAT_2_DIGITS);
-
 		int fieldIndex = 1;
 		for (int i = 0; i < month.getEntries().size(); i++) {
 			Month.Entry entry = month.getEntries().get(i);
@@ -89,21 +167,21 @@ public class PDFCompiler {
 
 			if (entry.isVacation()) {
 				timeVacation.addTime(time);
-				if (!uiSettings.isAddVacationEntry())
+				if (!options.addVacationEntries())
 					continue;
 			}
 
-			form.getField("Tätigkeit Stichwort ProjektRow%d".formatted(fieldIndex)).setValue(entry.getAction());
-			form.getField("ttmmjjRow%d".formatted(fieldIndex))
-					.setValue(dayFormatter.format(LocalDateTime.of(month.getYear(), month.getMonth(), entry.getDay(), 0, 0)));
-			form.getField("hhmmRow%d".formatted(fieldIndex)).setValue(entry.getStart());
-			form.getField("hhmmRow%d_2".formatted(fieldIndex)).setValue(entry.getEnd());
-			form.getField("hhmmRow%d_3".formatted(fieldIndex)).setValue(entry.getPause());
+			form.getRowField(RowField.ACTION, fieldIndex).setValue(entry.getAction());
+			form.getRowField(RowField.DATE, fieldIndex)
+					.setValue(TimeFormat.formatDate(LocalDate.of(month.getYear(), month.getMonth(), entry.getDay()), options.useYYYY()));
+			form.getRowField(RowField.START, fieldIndex).setValue(entry.getStart());
+			form.getRowField(RowField.END, fieldIndex).setValue(entry.getEnd());
+			form.getRowField(RowField.PAUSE, fieldIndex).setValue(entry.getPause());
 
 			String timeFieldValue = time.toString();
 			if (entry.isVacation())
 				timeFieldValue += " U";
-			form.getField("hhmmRow%d_4".formatted(fieldIndex)).setValue(timeFieldValue);
+			form.getRowField(RowField.TIME, fieldIndex).setValue(timeFieldValue);
 			fieldIndex++;
 		}
 
@@ -111,18 +189,26 @@ public class PDFCompiler {
 		form.getField("Urlaub anteilig").setValue(timeVacation.toString()); // Total time of Vacation
 
 		// Lock document
-		if (uiSettings.isFlattenPDF())
-			form.flatten();
-
-		// Save the filled document
-		document.save(targetFile);
-		document.close();
-
-		return Optional.empty();
+		if (options.flatten())
+			form.getAcroForm().flatten();
 	}
 
-	private static String getMonth(Month month, UISettings uiSettings) {
-		return uiSettings.isUseGermanMonths() ? month.getGermanName() : "%02d".formatted(month.getMonth());
+	private static String getMonth(Month month, PDFOptions options) {
+		return options.useGermanMonths() ? month.getGermanName() : TimeFormat.formatTwoDigits(month.getMonth());
 	}
 
+	/**
+	 * Uses a filled PDF document before it is closed.
+	 */
+	@FunctionalInterface
+	interface DocumentConsumer {
+
+		/**
+		 * Uses the filled document.
+		 *
+		 * @param document - the filled document.
+		 * @throws IOException if the document cannot be used.
+		 */
+		void accept(PDDocument document) throws IOException;
+	}
 }
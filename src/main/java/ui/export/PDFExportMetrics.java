@@ -0,0 +1,14 @@
+/* Licensed under MIT 2026. */
+package ui.export;
+
+/**
+ * Measurements of a single PDF export, reported to the listener set by
+ * {@link PDFCompiler#setMetricsListener(java.util.function.Consumer)}.
+ *
+ * @param allocatedBytes The heap memory allocated by the exporting thread while
+ *                       loading, filling and writing the document, or
+ *                       {@code -1} if the JVM cannot measure it.
+ * @param durationNanos  The duration of the export in nanoseconds.
+ */
+public record PDFExportMetrics(long allocatedBytes, long durationNanos) {
+}
@@ -0,0 +1,41 @@
+/* Licensed under MIT 2026. */
+package ui.export;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+
+import java.io.File;
+
+/**
+ * Limits the heap memory used for the streams of a single exported PDF
+ * document. Streams exceeding the limit are moved to a scratch file, which is
+ * deleted when the document is closed.
+ *
+ * @param maxMainMemoryBytes The heap memory per document in bytes, {@code 0} to
+ *                           keep all streams in the scratch file, or a negative
+ *                           value to keep all streams on the heap.
+ * @param tempDirectory      The directory of the scratch files, or
+ *                           {@code null} for the default temporary directory.
+ */
+public record PDFMemorySettings(long maxMainMemoryBytes, File tempDirectory) {
+
+	/**
+	 * Keeps up to 16 MiB per document on the heap, which is enough for a filled
+	 * time sheet, and spills larger documents like archives to the default
+	 * temporary directory.
+	 */
+	public static final PDFMemorySettings DEFAULT = new PDFMemorySettings(16L * 1024 * 1024, null);
+
+	/**
+	 * Creates the stream cache of a new document from these settings.
+	 *
+	 * @return The function creating the stream cache.
+	 */
+	StreamCacheCreateFunction createStreamCache() {
+		MemoryUsageSetting setting = maxMainMemoryBytes < 0 ? MemoryUsageSetting.setupMainMemoryOnly() : MemoryUsageSetting.setupMixed(maxMainMemoryBytes);
+		if (tempDirectory != null) {
+			setting.setTempDir(tempDirectory);
+		}
+		return setting.streamCache;
+	}
+}
@@ -0,0 +1,30 @@
+/* Licensed under MIT 2026. */
+package ui.export;
+
+import ui.json.UISettings;
+
+/**
+ * Options for filling the PDF template, independent of the settings of the
+ * user interface.
+ *
+ * @param addSignature       If the name is added to the signature field.
+ * @param addVacationEntries If vacation entries are added to the table.
+ * @param useYYYY            If the dates in the table use four digit years.
+ * @param useGermanMonths    If the month is written as German name instead of
+ *                           its number.
+ * @param flatten            If the form is flattened, so it can no longer be
+ *                           edited.
+ */
+public record PDFOptions(boolean addSignature, boolean addVacationEntries, boolean useYYYY, boolean useGermanMonths, boolean flatten) {
+
+	/**
+	 * Gets the options from the settings of the user interface.
+	 *
+	 * @param uiSettings - the settings of the user interface.
+	 * @return The options for filling the PDF template.
+	 */
+	public static PDFOptions of(UISettings uiSettings) {
+		return new PDFOptions(uiSettings.isAddSignature(), uiSettings.isAddVacationEntry(), uiSettings.isUseYYYY(), uiSettings.isUseGermanMonths(),
+				uiSettings.isFlattenPDF());
+	}
+}
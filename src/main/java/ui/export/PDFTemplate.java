@@ -0,0 +1,190 @@
+/* Licensed under MIT 2026. */
+package ui.export;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessStreamCache.StreamCacheCreateFunction;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.apache.pdfbox.pdmodel.interactive.form.PDField;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The PDF template of the time sheet. The template is read from the resources
+ * and its form fields are indexed only once per process. Every export then
+ * works on its own {@link Form copy} loaded from the cached bytes, which can be
+ * filled independently of other exports.
+ */
+final class PDFTemplate {
+
+	private static final String TEMPLATE_PATH = "/pdf/template.pdf";
+
+	private static PDFTemplate instance;
+
+	private final byte[] bytes;
+	/**
+	 * Index of each field in the field tree of the form, by its fully qualified
+	 * name
+	 */
+	private final Map<String, Integer> fieldIndices;
+	/**
+	 * Index of each table field in the field tree of the form, by column and row
+	 */
+	private final int[][] rowFieldIndices;
+
+	private PDFTemplate(byte[] bytes, Map<String, Integer> fieldIndices, int[][] rowFieldIndices) {
+		this.bytes = bytes;
+		this.fieldIndices = fieldIndices;
+		this.rowFieldIndices = rowFieldIndices;
+	}
+
+	/**
+	 * Gets the template, loading it on first use. If loading fails, the next call
+	 * tries again.
+	 *
+	 * @return The template.
+	 * @throws IOException if the template cannot be read or contains no form.
+	 */
+	static synchronized PDFTemplate get() throws IOException {
+		if (instance == null) {
+			instance = load();
+		}
+		return instance;
+	}
+
+	private static PDFTemplate load() throws IOException {
+		byte[] bytes;
+		try (InputStream templateStream = PDFTemplate.class.getResourceAsStream(TEMPLATE_PATH)) {
+			if (templateStream == null) {
+				throw new FileNotFoundException("Template PDF not found in resources.");
+			}
+			bytes = templateStream.readAllBytes();
+		}
+
+		Map<String, Integer> fieldIndices = new HashMap<>();
+		try (PDDocument document = Loader.loadPDF(bytes)) {
+			int index = 0;
+			for (PDField field : getAcroForm(document).getFieldTree()) {
+				fieldIndices.putIfAbsent(field.getFullyQualifiedName(), index++);
+			}
+		}
+
+		int[][] rowFieldIndices = new int[RowField.values().length][];
+		for (RowField column : RowField.values()) {
+			List<Integer> rows = new ArrayList<>();
+			Integer index;
+			while ((index = fieldIndices.get(column.getName(rows.size() + 1))) != null) {
+				rows.add(index);
+			}
+			rowFieldIndices[column.ordinal()] = rows.stream().mapToInt(Integer::intValue).toArray();
+		}
+		return new PDFTemplate(bytes, fieldIndices, rowFieldIndices);
+	}
+
+	private static PDAcroForm getAcroForm(PDDocument document) throws IOException {
+		PDAcroForm form = document.getDocumentCatalog().getAcroForm();
+		if (form == null) {
+			throw new IOException("No form found in the document. Nothing we can do, sorry.");
+		}
+		return form;
+	}
+
+	/**
+	 * Loads a new copy of the template to fill. The copy reads the unchanged parts
+	 * directly from the cached bytes, only new and changed streams are stored in
+	 * the given stream cache.
+	 *
+	 * @param streamCache - creates the stream cache of the copy.
+	 * @return The copy, which has to be closed after use.
+	 * @throws IOException if the copy cannot be loaded.
+	 */
+	Form open(StreamCacheCreateFunction streamCache) throws IOException {
+		PDDocument document = Loader.loadPDF(bytes, "", null, null, streamCache);
+		try {
+			PDAcroForm form = getAcroForm(document);
+			List<PDField> fields = new ArrayList<>(fieldIndices.size());
+			for (PDField field : form.getFieldTree()) {
+				fields.add(field);
+			}
+			return new Form(document, form, fields);
+		} catch (IOException | RuntimeException e) {
+			document.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * A copy of the template that can be filled.
+	 */
+	final class Form implements Closeable {
+
+		private final PDDocument document;
+		private final PDAcroForm acroForm;
+		private final List<PDField> fields;
+
+		private Form(PDDocument document, PDAcroForm acroForm, List<PDField> fields) {
+			this.document = document;
+			this.acroForm = acroForm;
+			this.fields = fields;
+		}
+
+		/**
+		 * Gets a field by its fully qualified name.
+		 *
+		 * @param name - the name of the field.
+		 * @return The field, or {@code null} if the template has no such field.
+		 */
+		PDField getField(String name) {
+			Integer index = fieldIndices.get(name);
+			return index == null ? null : fields.get(index);
+		}
+
+		/**
+		 * Gets a field of the table.
+		 *
+		 * @param column - the column of the field.
+		 * @param row    - the row of the field, starting at 1.
+		 * @return The field.
+		 */
+		PDField getRowField(RowField column, int row) {
+			return fields.get(rowFieldIndices[column.ordinal()][row - 1]);
+		}
+
+		PDDocument getDocument() {
+			return document;
+		}
+
+		PDAcroForm getAcroForm() {
+			return acroForm;
+		}
+
+		@Override
+		public void close() throws IOException {
+			document.close();
+		}
+	}
+
+	/**
+	 * The columns of the table in the template.
+	 */
+	enum RowField {
+		ACTION("Tätigkeit Stichwort ProjektRow%d"), DATE("ttmmjjRow%d"), START("hhmmRow%d"), END("hhmmRow%d_2"), PAUSE("hhmmRow%d_3"), TIME("hhmmRow%d_4");
+
+		private final String nameFormat;
+
+		RowField(String nameFormat) {
+			this.nameFormat = nameFormat;
+		}
+
+		String getName(int row) {
+			return nameFormat.formatted(row);
+		}
+	}
+}
@@ -1,10 +1,16 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui.export;
 
 import checker.ExportType;
-import ui.json.JSONHandler;
+import data.TimeSheet;
+import parser.ParseException;
+import parser.Parser;
+import io.LatexExporter;
+import ui.json.Global;
+import ui.json.Month;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Optional;
 
 public final class TexCompiler {
@@ -13,21 +19,42 @@ public final class TexCompiler {
 		throw new IllegalAccessError();
 	}
 
-	public static void compileToTex(File monthFile, File texFile) {
-		File globalFile = JSONHandler.getConfigFile();
-		main.Main.main(new String[] { "-f", globalFile.getAbsolutePath(), monthFile.getAbsolutePath(), texFile.getAbsolutePath() });
+	/**
+	 * Generates the LaTeX file of an already checked timesheet in-process.
+	 * 
+	 * @param timeSheet The checked timesheet.
+	 * @param texFile   The file to write the LaTeX document to.
+	 * @throws IOException if the LaTeX template cannot be read or the file cannot
+	 *                     be written.
+	 */
+	public static void compileToTex(TimeSheet timeSheet, File texFile) throws IOException {
+		LatexExporter.export(timeSheet, false, texFile);
+	}
+
+	/**
+	 * Wrapper method for the timesheet generator module timesheet parser. The
+	 * global settings and the month are converted in memory, without writing them
+	 * to files first.
+	 * 
+	 * @param global The global settings.
+	 * @param month  The month to convert.
+	 * @return The timesheet.
+	 * @throws ParseException if the global settings or the month are invalid.
+	 */
+	static TimeSheet parseContents(Global global, Month month) throws ParseException {
+		return Parser.parseTimeSheet(global, month);
 	}
 
 	/**
-	 * Wrapper method for the timesheet generator module timesheet compiler.
+	 * Wrapper method for the timesheet generator module timesheet checker.
 	 * 
-	 * @param tempFiles  The temporary files.
+	 * @param timeSheet  The timesheet to check.
 	 * @param exportType The type of file that is being exported to, as they have
 	 *                   slight differences.
 	 * @return An optional of the error message, empty if success.
 	 */
-	static Optional<String> validateContents(TempFiles tempFiles, ExportType exportType) {
-		return main.Main.validateTimesheet(tempFiles.getGlobalFile(), tempFiles.getMonthFile(), exportType);
+	static Optional<String> validateContents(TimeSheet timeSheet, ExportType exportType) {
+		return main.Main.validateTimesheet(timeSheet, exportType);
 	}
 
 }
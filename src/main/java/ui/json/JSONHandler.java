@@ -1,11 +1,13 @@
-/* Licensed under MIT 2024-2025. */
+/* Licensed under MIT 2024-2026. */
 package ui.json;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.FileController;
 import lombok.Getter;
+import parser.json.JsonRegistry;
 import ui.ErrorHandler;
 import ui.UserInterface;
 import ui.MonthlySettingsBar;
@@ -18,12 +20,10 @@ import ui.json.api.PresetFetcher;
 import javax.swing.*;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.logging.Logger;
 
 public final class JSONHandler {
@@ -52,23 +52,18 @@ public final class JSONHandler {
 
 	private static final String ERROR = "An unexpected error occurred:%s%s".formatted(System.lineSeparator(), "%s");
 
-	public static void initialize() {
-		final String homePropertyName = "user.home";
-		String os = System.getProperty("os.name").toLowerCase(Locale.ENGLISH);
-
-		if (os.contains("win")) {
-			configDir = System.getenv("APPDATA");
-		} else if (os.contains("mac")) {
-			configDir = System.getProperty(homePropertyName) + "/Library/Application Support";
-		} else if (os.contains("nux") || os.contains("nix")) {
-			configDir = System.getProperty(homePropertyName) + "/.config";
-		} else {
-			// Default to user home directory
-			configDir = System.getProperty(homePropertyName);
-		}
+	private static final ObjectReader GLOBAL_READER = JsonRegistry.reader(Global.class);
+	private static final ObjectWriter GLOBAL_WRITER = JsonRegistry.writer(Global.class);
+	private static final ObjectReader UI_SETTINGS_READER = JsonRegistry.reader(UISettings.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	private static final ObjectWriter UI_SETTINGS_WRITER = JsonRegistry.writer(UISettings.class);
+	private static final ObjectReader MONTH_READER = JsonRegistry.reader(Month.class);
+	private static final ObjectWriter MONTH_WRITER = JsonRegistry.writer(Month.class);
+	private static final ObjectReader FIELD_DEFAULTS_READER = JsonRegistry.reader(FieldDefaults.class);
+	private static final ObjectReader PRESETS_READER = JsonRegistry.reader(PresetCollection.class);
+	private static final ObjectWriter PRESETS_WRITER = JsonRegistry.writer(PresetCollection.class);
 
-		// Create a subdirectory for your application
-		configDir += "/TimeSheetGenerator";
+	public static void initialize() {
+		configDir = resolveApplicationDataPath();
 
 		loadDefaultValues();
 		loadPresets();
@@ -81,14 +76,39 @@ public final class JSONHandler {
 	}
 
 	/**
-	 * Gets the folder path for the application data and config.
+	 * Gets the folder path for the application data and config. The path is also
+	 * available without {@link #initialize()}, e.g. when running from the command
+	 * line.
 	 * 
 	 * @return the config path.
 	 */
 	public static String getApplicationDataPath() {
+		if (configDir == null) {
+			configDir = resolveApplicationDataPath();
+		}
 		return configDir;
 	}
 
+	private static String resolveApplicationDataPath() {
+		final String homePropertyName = "user.home";
+		String os = System.getProperty("os.name").toLowerCase(Locale.ENGLISH);
+
+		String path;
+		if (os.contains("win")) {
+			path = System.getenv("APPDATA");
+		} else if (os.contains("mac")) {
+			path = System.getProperty(homePropertyName) + "/Library/Application Support";
+		} else if (os.contains("nux") || os.contains("nix")) {
+			path = System.getProperty(homePropertyName) + "/.config";
+		} else {
+			// Default to user home directory
+			path = System.getProperty(homePropertyName);
+		}
+
+		// Create a subdirectory for your application
+		return path + "/TimeSheetGenerator";
+	}
+
 	/**
 	 * Gets a copy of the current global settings.
 	 * 
@@ -127,19 +147,16 @@ public final class JSONHandler {
 	// region Global Settings JSON Object methods
 
 	public static void loadGlobal() {
-		ObjectMapper objectMapper = new ObjectMapper();
 		try {
-			globalSettings = objectMapper.readValue(getConfigFile(), Global.class);
+			globalSettings = GLOBAL_READER.readValue(getConfigFile());
 		} catch (IOException e) {
 			ErrorHandler.showError("Error loading global settings file", ERROR.formatted(e.getMessage()));
 		}
 	}
 
 	public static void saveGlobal(Global globalSettings) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.writeValue(getConfigFile(), globalSettings);
+			FileController.writeAtomically(getConfigFile().toPath(), out -> GLOBAL_WRITER.writeValue(out, globalSettings));
 			setGlobalSettings(globalSettings);
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving global settings file", ERROR.formatted(e.getMessage()));
@@ -147,19 +164,16 @@ public final class JSONHandler {
 	}
 
 	private static void loadUiSettings() {
-		ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 		try {
-			uiSettings = objectMapper.readValue(getUiSettingsFile(), UISettings.class);
+			uiSettings = UI_SETTINGS_READER.readValue(getUiSettingsFile());
 		} catch (IOException e) {
 			ErrorHandler.showError("Error loading UI settings file", ERROR.formatted(e.getMessage()));
 		}
 	}
 
 	public static void saveUISettings(UISettings uiSettings) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.writeValue(getUiSettingsFile(), uiSettings);
+			FileController.writeAtomically(getUiSettingsFile().toPath(), out -> UI_SETTINGS_WRITER.writeValue(out, uiSettings));
 			setUISettings(uiSettings);
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving UI settings file", ERROR.formatted(e.getMessage()));
@@ -171,10 +185,8 @@ public final class JSONHandler {
 	// region Month JSON Object methods
 
 	public static void loadMonth(UserInterface parentUi, File monthFile) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			Month month = objectMapper.readValue(monthFile, Month.class);
+			Month month = MONTH_READER.readValue(monthFile);
 
 			parentUi.importMonthBarSettings(month);
 
@@ -187,10 +199,8 @@ public final class JSONHandler {
 	}
 
 	public static boolean isFileValidMonth(File monthFile) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
-			objectMapper.readValue(monthFile, Month.class);
+			MONTH_READER.readValue(monthFile);
 			return true;
 		} catch (IOException e) {
 			return false;
@@ -207,11 +217,9 @@ public final class JSONHandler {
 	}
 
 	public static void saveMonth(File saveFile, MonthlySettingsBar settingsBar, DefaultListModel<TimesheetEntry> entries) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		try {
 			Month month = getMonth(settingsBar, entries);
-			objectMapper.writeValue(saveFile, month);
+			FileController.writeAtomically(saveFile.toPath(), out -> MONTH_WRITER.writeValue(out, month));
 		} catch (IOException e) {
 			ErrorHandler.showError("Error saving month file", ERROR.formatted(e.getMessage()));
 		}
@@ -219,25 +227,7 @@ public final class JSONHandler {
 
 	// endregion
 
-	// region Default JSON File Creation + Temp File Helper Methods
-
-	public static File generateTemporaryJSONFile(MonthlySettingsBar settingsBar, DefaultListModel<TimesheetEntry> entries) {
-		File f;
-		do {
-			f = new File(configDir, "/temp-%s.json".formatted(UUID.randomUUID()));
-		} while (f.exists());
-		try {
-			if (!f.createNewFile()) {
-				// Show error in main and return using catch block
-				throw new IOException("Failed to create temporary json file %s.".formatted(f.getAbsolutePath()));
-			}
-		} catch (IOException e) {
-			ErrorHandler.showError("Error generating temp json file", ERROR.formatted(e.getMessage()));
-			return null;
-		}
-		saveMonth(f, settingsBar, entries);
-		return f;
-	}
+	// region Default JSON File Creation
 
 	public static File getConfigFile() {
 		return new File(configDir, CONFIG_FILE_NAME);
@@ -344,23 +334,21 @@ public final class JSONHandler {
 	}
 
 	private static FieldDefaults attemptLoadDefaultValues() throws IOException, IllegalStateException {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
 		Optional<String> loadedJson = DefaultsFetcher.fetchJSONFromEndpoint();
 		File defaultsFile = getValueDefaultsFile();
 
 		if (loadedJson.isPresent()) {
 			String json = loadedJson.get();
 			try {
-				Files.writeString(defaultsFile.toPath(), json);
+				FileController.saveStringToFile(json, defaultsFile);
 			} catch (IOException ignored) {
 				// ignore, we just save if we can
 			}
-			return objectMapper.readValue(json, FieldDefaults.class);
+			return FIELD_DEFAULTS_READER.readValue(json);
 		} else {
 			// Attempt to load from file or return default
 			if (defaultsFile.exists()) {
-				return objectMapper.readValue(defaultsFile, FieldDefaults.class);
+				return FIELD_DEFAULTS_READER.readValue(defaultsFile);
 			} else {
 				throw new IllegalStateException();
 			}
@@ -376,14 +364,11 @@ public final class JSONHandler {
 	}
 
 	private static PresetCollection loadPresetCollection() {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-
 		File presetsFile = getKnownPresetsFile();
 		Optional<String> presetsJSON = PresetFetcher.fetchJSONFromEndpoint();
 
-		Optional<PresetCollection> fromFile = parsePresetCollection(objectMapper, presetsFile);
-		Optional<PresetCollection> fromAPI = parsePresetCollection(objectMapper, presetsJSON);
+		Optional<PresetCollection> fromFile = parsePresetCollection(presetsFile);
+		Optional<PresetCollection> fromAPI = parsePresetCollection(presetsJSON);
 
 		PresetCollection mergedCollection;
 		if (fromFile.isPresent() || fromAPI.isPresent()) {
@@ -394,7 +379,7 @@ public final class JSONHandler {
 
 		// write merged collection to file
 		try {
-			objectMapper.writeValue(presetsFile, mergedCollection);
+			FileController.writeAtomically(presetsFile.toPath(), out -> PRESETS_WRITER.writeValue(out, mergedCollection));
 		} catch (IOException e) {
 			Logger.getGlobal().warning("Failed to write presets to file: %s%n".formatted(presetsFile.getAbsolutePath()));
 		}
@@ -402,24 +387,22 @@ public final class JSONHandler {
 	}
 
 	/**
-	 * Parses a {@link PresetCollection} from a given file using the given
-	 * {@link ObjectMapper} and returns it as an Optional. Returns an empty optional
-	 * if either the file doesn't exist or does not contain a parseable
-	 * {@link PresetCollection}.<br/>
+	 * Parses a {@link PresetCollection} from a given file and returns it as an
+	 * Optional. Returns an empty optional if either the file doesn't exist or does
+	 * not contain a parseable {@link PresetCollection}.<br/>
 	 * Used to provide more readable code by moving try-catch blocks away from the
 	 * main {@link JSONHandler#loadPresetCollection()} method.
 	 * <p>
-	 * Similar to {@link JSONHandler#parsePresetCollection(ObjectMapper, Optional)}.
+	 * Similar to {@link JSONHandler#parsePresetCollection(Optional)}.
 	 * </p>
 	 * 
-	 * @param objectMapper the ObjectMapper used to parse JSON.
-	 * @param file         The file to parse from.
+	 * @param file The file to parse from.
 	 * @return An optional of the parsed preset collection or empty.
 	 */
-	private static Optional<PresetCollection> parsePresetCollection(ObjectMapper objectMapper, File file) {
+	private static Optional<PresetCollection> parsePresetCollection(File file) {
 		if (file.exists()) {
 			try {
-				return Optional.of(objectMapper.readValue(file, PresetCollection.class));
+				return Optional.of(PRESETS_READER.readValue(file));
 			} catch (IOException ignored) {
 				// return empty
 			}
@@ -428,25 +411,23 @@ public final class JSONHandler {
 	}
 
 	/**
-	 * Parses a {@link PresetCollection} from a given string using the given
-	 * {@link ObjectMapper} and returns it as an Optional. Returns an empty optional
-	 * if either the string is null/empty or does not contain a parseable
-	 * {@link PresetCollection}.<br/>
+	 * Parses a {@link PresetCollection} from a given string and returns it as an
+	 * Optional. Returns an empty optional if either the string is null/empty or
+	 * does not contain a parseable {@link PresetCollection}.<br/>
 	 * Used to provide more readable code by moving try-catch blocks away from the
 	 * main {@link JSONHandler#loadPresetCollection()} method.
 	 * <p>
-	 * Similar to {@link JSONHandler#parsePresetCollection(ObjectMapper, File)}.
+	 * Similar to {@link JSONHandler#parsePresetCollection(File)}.
 	 * </p>
 	 * 
-	 * @param objectMapper the ObjectMapper used to parse JSON.
-	 * @param json         The json of the PresetCollection.
+	 * @param json The json of the PresetCollection.
 	 * @return An optional of the parsed preset collection or empty.
 	 */
 	@SuppressWarnings("OptionalUsedAsFieldOrParameterType") // Optional.empty() default value otherwise needed in multiple places
-	private static Optional<PresetCollection> parsePresetCollection(ObjectMapper objectMapper, Optional<String> json) {
+	private static Optional<PresetCollection> parsePresetCollection(Optional<String> json) {
 		if (json.isPresent() && !json.get().isBlank()) {
 			try {
-				return Optional.of(objectMapper.readValue(json.get(), PresetCollection.class));
+				return Optional.of(PRESETS_READER.readValue(json.get()));
 			} catch (IOException ignored) {
 				// return empty
 			}
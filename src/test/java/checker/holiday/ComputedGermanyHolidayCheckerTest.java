@@ -0,0 +1,93 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ComputedGermanyHolidayCheckerTest {
+
+	@ParameterizedTest
+	@CsvSource({ "2000, 2000-04-23", "2008, 2008-03-23", "2011, 2011-04-24", "2019, 2019-04-21", "2024, 2024-03-31", "2025, 2025-04-20",
+			"2038, 2038-04-25", "2100, 2100-03-28" })
+	public void testEasterSunday(int year, LocalDate easterSunday) {
+		assertEquals(easterSunday, ComputedGermanyHolidayChecker.getEasterSunday(year));
+	}
+
+	@Test
+	public void testHolidaysBadenWuerttemberg2024() throws HolidayFetchException {
+		//// HolidayChecker initialization
+		IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+
+		//// Assertions
+		List<LocalDate> expected = List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 6), LocalDate.of(2024, 3, 29), LocalDate.of(2024, 4, 1),
+				LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 9), LocalDate.of(2024, 5, 20), LocalDate.of(2024, 5, 30), LocalDate.of(2024, 10, 3),
+				LocalDate.of(2024, 11, 1), LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26));
+		assertEquals(expected, holidayChecker.getHolidays().stream().map(Holiday::getDate).toList());
+	}
+
+	@ParameterizedTest
+	@EnumSource(GermanState.class)
+	public void testNationwideHolidays(GermanState state) throws HolidayFetchException {
+		//// HolidayChecker initialization
+		IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2025, state);
+
+		//// Assertions
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 1, 1)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 4, 18)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 4, 21)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 5, 29)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 6, 9)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 10, 3)));
+		assertTrue(holidayChecker.isHoliday(LocalDate.of(2025, 12, 26)));
+		assertFalse(holidayChecker.isHoliday(LocalDate.of(2025, 11, 21)));
+	}
+
+	@Test
+	public void testOtherYearIsNoHoliday() throws HolidayFetchException {
+		IHolidayChecker holidayChecker = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+
+		assertFalse(holidayChecker.isHoliday(LocalDate.of(2025, 1, 1)));
+	}
+
+	@Test
+	public void testBussUndBettag() {
+		assertTrue(new ComputedGermanyHolidayChecker(2024, GermanState.SN).isHoliday(LocalDate.of(2024, 11, 20)));
+		assertTrue(new ComputedGermanyHolidayChecker(2025, GermanState.SN).isHoliday(LocalDate.of(2025, 11, 19)));
+		assertFalse(new ComputedGermanyHolidayChecker(2024, GermanState.BW).isHoliday(LocalDate.of(2024, 11, 20)));
+	}
+
+	@Test
+	public void testReformationstag() {
+		assertTrue(new ComputedGermanyHolidayChecker(2017, GermanState.BW).isHoliday(LocalDate.of(2017, 10, 31)));
+		assertFalse(new ComputedGermanyHolidayChecker(2018, GermanState.BW).isHoliday(LocalDate.of(2018, 10, 31)));
+		assertFalse(new ComputedGermanyHolidayChecker(2016, GermanState.NI).isHoliday(LocalDate.of(2016, 10, 31)));
+		assertTrue(new ComputedGermanyHolidayChecker(2018, GermanState.NI).isHoliday(LocalDate.of(2018, 10, 31)));
+		assertTrue(new ComputedGermanyHolidayChecker(2016, GermanState.SN).isHoliday(LocalDate.of(2016, 10, 31)));
+	}
+
+	@Test
+	public void testInternationalerFrauentag() {
+		assertFalse(new ComputedGermanyHolidayChecker(2018, GermanState.BE).isHoliday(LocalDate.of(2018, 3, 8)));
+		assertTrue(new ComputedGermanyHolidayChecker(2019, GermanState.BE).isHoliday(LocalDate.of(2019, 3, 8)));
+		assertFalse(new ComputedGermanyHolidayChecker(2022, GermanState.MV).isHoliday(LocalDate.of(2022, 3, 8)));
+		assertTrue(new ComputedGermanyHolidayChecker(2023, GermanState.MV).isHoliday(LocalDate.of(2023, 3, 8)));
+	}
+
+	@Test
+	public void testStateSpecificHolidays() {
+		assertTrue(new ComputedGermanyHolidayChecker(2024, GermanState.BY).isHoliday(LocalDate.of(2024, 8, 15)));
+		assertFalse(new ComputedGermanyHolidayChecker(2024, GermanState.BW).isHoliday(LocalDate.of(2024, 8, 15)));
+		assertTrue(new ComputedGermanyHolidayChecker(2024, GermanState.TH).isHoliday(LocalDate.of(2024, 9, 20)));
+		assertTrue(new ComputedGermanyHolidayChecker(2025, GermanState.BE).isHoliday(LocalDate.of(2025, 5, 8)));
+		assertTrue(new ComputedGermanyHolidayChecker(2024, GermanState.BB).isHoliday(LocalDate.of(2024, 3, 31)));
+		assertFalse(new ComputedGermanyHolidayChecker(2024, GermanState.NATIONAL).isHoliday(LocalDate.of(2024, 1, 6)));
+	}
+
+}
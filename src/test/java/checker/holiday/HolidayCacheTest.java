@@ -0,0 +1,123 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCacheTest {
+
+	private static final String HOLIDAYS = "{\"Neujahrstag\":{\"datum\":\"2024-01-01\",\"hinweis\":\"\"}}";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	public void testFetchOnceForFreshEntry() throws IOException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		AtomicInteger fetches = new AtomicInteger();
+
+		//// Assertions
+		assertEquals(HOLIDAYS, cache.get(2024, GermanState.BW, () -> fetchCounting(fetches)));
+		assertEquals(HOLIDAYS, cache.get(2024, GermanState.BW, () -> fetchCounting(fetches)));
+		assertEquals(1, fetches.get());
+	}
+
+	@Test
+	public void testKeyedByYearAndState() throws IOException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		AtomicInteger fetches = new AtomicInteger();
+
+		cache.get(2024, GermanState.BW, () -> fetchCounting(fetches));
+		cache.get(2025, GermanState.BW, () -> fetchCounting(fetches));
+		cache.get(2024, GermanState.BY, () -> fetchCounting(fetches));
+
+		//// Assertions
+		assertEquals(3, fetches.get());
+	}
+
+	@Test
+	public void testRefetchExpiredEntry() throws IOException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		cache.get(2024, GermanState.BW, () -> "old");
+		expire(2024, GermanState.BW);
+
+		//// Assertions
+		assertEquals("new", cache.get(2024, GermanState.BW, () -> "new"));
+		assertEquals("new", cache.get(2024, GermanState.BW, () -> fail("fresh entry expected")));
+	}
+
+	@Test
+	public void testFallbackToExpiredEntry() throws IOException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		cache.get(2024, GermanState.BW, () -> HOLIDAYS);
+		expire(2024, GermanState.BW);
+
+		//// Assertions
+		assertEquals(HOLIDAYS, cache.get(2024, GermanState.BW, () -> {
+			throw new IOException("offline");
+		}));
+	}
+
+	@Test
+	public void testFetchFailureWithoutEntry() {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+
+		//// Assertions
+		IOException exception = assertThrows(IOException.class, () -> cache.get(2024, GermanState.BW, () -> {
+			throw new IOException("offline");
+		}));
+		assertEquals("offline", exception.getMessage());
+	}
+
+	@Test
+	public void testInvalidate() throws IOException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		cache.get(2024, GermanState.BW, () -> "invalid");
+		cache.invalidate(2024, GermanState.BW);
+
+		//// Assertions
+		assertEquals(HOLIDAYS, cache.get(2024, GermanState.BW, () -> HOLIDAYS));
+	}
+
+	@Test
+	public void testFetchingCalendarUsesCache() throws IOException, HolidayFetchException {
+		//// Test values
+		HolidayCache cache = new HolidayCache(directory, Duration.ofDays(1));
+		cache.get(2024, GermanState.BW, () -> HOLIDAYS);
+		IHolidayChecker checker = HolidayCalendar.fetching(cache).getChecker(2024, GermanState.BW);
+
+		//// Assertions
+		// The entry is fresh, so the holidays are not fetched from the network
+		assertTrue(checker.isHoliday(LocalDate.of(2024, 1, 1)));
+		assertFalse(checker.isHoliday(LocalDate.of(2024, 1, 2)));
+		assertEquals(1, checker.getHolidays().size());
+	}
+
+	private static String fetchCounting(AtomicInteger fetches) {
+		fetches.incrementAndGet();
+		return HOLIDAYS;
+	}
+
+	private void expire(int year, GermanState state) throws IOException {
+		Path file = directory.resolve("%d-%s.json".formatted(year, state.name()));
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+	}
+
+}
@@ -0,0 +1,173 @@
+/* Licensed under MIT 2026. */
+package checker.holiday;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCalendarTest {
+
+	private static final int CONCURRENT_CHECKS = 16;
+
+	@Test
+	public void testSameResultAsComputed() throws HolidayFetchException {
+		//// Test values
+		IHolidayChecker computed = new ComputedGermanyHolidayChecker(2024, GermanState.BW);
+		IHolidayChecker cached = new HolidayCalendar((year, state) -> new ComputedGermanyHolidayChecker(year, state).getHolidays()).getChecker(2024,
+				GermanState.BW);
+
+		//// Assertions
+		for (LocalDate date = LocalDate.of(2023, 12, 31); date.isBefore(LocalDate.of(2025, 1, 2)); date = date.plusDays(1)) {
+			assertEquals(computed.isHoliday(date), cached.isHoliday(date), date.toString());
+		}
+		assertEquals(computed.getHolidays().size(), cached.getHolidays().size());
+	}
+
+	@Test
+	public void testSetDefault() {
+		//// Test values
+		HolidayCalendar previous = HolidayCalendar.getDefault();
+		HolidayCalendar calendar = new HolidayCalendar((year, state) -> List.of());
+
+		//// Assertions
+		HolidayCalendar.setDefault(calendar);
+		try {
+			assertSame(calendar, HolidayCalendar.getDefault());
+		} finally {
+			HolidayCalendar.setDefault(previous);
+		}
+	}
+
+	@Test
+	public void testLoadOncePerYearAndState() throws HolidayFetchException {
+		//// Test values
+		AtomicInteger loads = new AtomicInteger();
+		HolidayCalendar calendar = new HolidayCalendar((year, state) -> {
+			loads.incrementAndGet();
+			return new ComputedGermanyHolidayChecker(year, state).getHolidays();
+		});
+
+		calendar.getChecker(2024, GermanState.BW).isHoliday(LocalDate.of(2024, 1, 1));
+		calendar.getChecker(2024, GermanState.BW).isHoliday(LocalDate.of(2024, 1, 2));
+		calendar.getChecker(2024, GermanState.BY).isHoliday(LocalDate.of(2024, 1, 1));
+
+		//// Assertions
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testSingleFlightLoading() throws Exception {
+		//// Test values
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		HolidayCalendar calendar = new HolidayCalendar((year, state) -> {
+			loads.incrementAndGet();
+			return new ComputedGermanyHolidayChecker(year, state).getHolidays();
+		});
+
+		List<Future<Boolean>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CHECKS)) {
+			for (int i = 0; i < CONCURRENT_CHECKS; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return calendar.getChecker(2024, GermanState.BW).isHoliday(LocalDate.of(2024, 12, 25));
+				}));
+			}
+			start.countDown();
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		}
+
+		//// Assertions
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testFailureIsNotCached() throws HolidayFetchException {
+		//// Test values
+		AtomicInteger loads = new AtomicInteger();
+		HolidayCalendar calendar = new HolidayCalendar((year, state) -> {
+			if (loads.incrementAndGet() == 1) {
+				throw new HolidayFetchException("offline");
+			}
+			return new ComputedGermanyHolidayChecker(year, state).getHolidays();
+		});
+		IHolidayChecker checker = calendar.getChecker(2024, GermanState.BW);
+
+		//// Assertions
+		HolidayFetchException exception = assertThrows(HolidayFetchException.class, () -> checker.isHoliday(LocalDate.of(2024, 1, 1)));
+		assertEquals("offline", exception.getMessage());
+		assertTrue(checker.isHoliday(LocalDate.of(2024, 1, 1)));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void testFailingLoaderReleasesWaiters() throws Exception {
+		//// Test values
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch fail = new CountDownLatch(1);
+		HolidayCalendar calendar = new HolidayCalendar((year, state) -> {
+			if (loads.incrementAndGet() == 1) {
+				loading.countDown();
+				try {
+					fail.await();
+				} catch (InterruptedException e) {
+					throw new HolidayFetchException("interrupted");
+				}
+				throw new LinkageError("broken loader");
+			}
+			return new ComputedGermanyHolidayChecker(year, state).getHolidays();
+		});
+		IHolidayChecker checker = calendar.getChecker(2024, GermanState.BW);
+
+		// Daemon threads, so a blocked waiter cannot keep the test from finishing
+		ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Future<Boolean> first = executor.submit(() -> checker.isHoliday(LocalDate.of(2024, 12, 25)));
+			loading.await();
+
+			AtomicReference<Thread> secondThread = new AtomicReference<>();
+			Future<Boolean> second = executor.submit(() -> {
+				secondThread.set(Thread.currentThread());
+				return checker.isHoliday(LocalDate.of(2024, 12, 25));
+			});
+			// Wait until the second check waits for the load of the first one
+			while (secondThread.get() == null || secondThread.get().getState() != Thread.State.WAITING) {
+				Thread.onSpinWait();
+			}
+			fail.countDown();
+
+			//// Assertions
+			for (Future<Boolean> result : List.of(first, second)) {
+				ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+				assertInstanceOf(LinkageError.class, exception.getCause());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(1, loads.get());
+
+		// The failure is not cached
+		assertTrue(checker.isHoliday(LocalDate.of(2024, 12, 25)));
+		assertEquals(2, loads.get());
+	}
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.CheckerException;
+import checker.CheckerReturn;
+import checker.ExportType;
+import checker.holiday.GermanState;
+import data.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Asserts that the single pass of {@link RuleChecker#check()} over all rules
+ * produces the same errors, in the same order, as checking each rule on its
+ * own.
+ */
+public class RuleCheckerSinglePassTest {
+
+	//// Placeholder for time sheet construction
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2024, Month.DECEMBER);
+	private static final TimeSpan zeroTs = new TimeSpan(0, 0);
+
+	private static final int ITERATIONS = 500;
+	private static final int MAX_ENTRIES = 40;
+
+	@Test
+	public void testSameErrorsAsSingleRules() throws CheckerException {
+		Random rand = new Random(42);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			//// Checker initialization
+			TimeSheet timeSheet = randomTimeSheet(rand);
+			RuleChecker singlePass = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all());
+
+			CheckerReturn singlePassResult = singlePass.check();
+			List<String> singleRuleErrors = new ArrayList<>();
+			for (CheckerRule rule : RuleSet.all().getRules()) {
+				RuleChecker singleRule = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all().only(rule.getName()));
+				singleRule.check();
+				singleRule.getErrors().stream().map(CheckerError::getErrorMessage).forEach(singleRuleErrors::add);
+			}
+
+			//// Assertions
+			assertEquals(singleRuleErrors.isEmpty() ? CheckerReturn.VALID : CheckerReturn.INVALID, singlePassResult);
+			assertEquals(singleRuleErrors, singlePass.getErrors().stream().map(CheckerError::getErrorMessage).toList());
+		}
+	}
+
+	private static TimeSheet randomTimeSheet(Random rand) {
+		Entry[] entries = new Entry[rand.nextInt(MAX_ENTRIES)];
+		for (int i = 0; i < entries.length; i++) {
+			LocalDate date = LocalDate.of(YEAR_MONTH.getYear(), YEAR_MONTH.getMonth(), rand.nextInt(YEAR_MONTH.lengthOfMonth()) + 1);
+			int start = rand.nextInt(24 * 60 - 1);
+			int end = start + rand.nextInt(24 * 60 - start);
+			boolean vacation = rand.nextInt(10) == 0;
+			int pause = vacation ? 0 : rand.nextInt(Math.min(end - start, 60) + 1);
+			entries[i] = new Entry("Test", date, toTimeSpan(start), toTimeSpan(end), toTimeSpan(pause), vacation);
+		}
+
+		TimeSpan succTransfer = toTimeSpan(200 * 60);
+		return new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, succTransfer, zeroTs);
+	}
+
+	private static TimeSpan toTimeSpan(int minutes) {
+		return new TimeSpan(minutes / 60, minutes % 60);
+	}
+
+}
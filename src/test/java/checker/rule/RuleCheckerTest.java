@@ -0,0 +1,94 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import checker.CheckerError;
+import checker.CheckerException;
+import checker.CheckerReturn;
+import checker.ExportType;
+import checker.MiLoGChecker.MiLoGCheckerErrorMessageProvider;
+import checker.holiday.GermanState;
+import data.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RuleCheckerTest {
+
+	//// Placeholder for time sheet construction
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2024, Month.DECEMBER);
+	private static final TimeSpan zeroTs = new TimeSpan(0, 0);
+
+	@Test
+	public void testWithoutWorkingDaysSkipsHolidays() throws CheckerException {
+		//// Test values
+		LocalDate date = LocalDate.of(2024, 12, 25); // Holiday
+		TimeSheet timeSheet = timeSheet(new Entry("Test", date, new TimeSpan(8, 0), new TimeSpan(12, 0), zeroTs, false));
+
+		//// Checker initialization
+		RuleChecker full = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all());
+		RuleChecker withoutHolidays = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all().without(ValidWorkingDaysRule.NAME));
+
+		//// Assertions
+		assertEquals(CheckerReturn.INVALID, full.check());
+		assertEquals(List.of(MiLoGCheckerErrorMessageProvider.TIME_HOLIDAY), providers(full));
+		assertEquals(CheckerReturn.VALID, withoutHolidays.check());
+	}
+
+	@Test
+	public void testErrorsInRuleOrder() throws CheckerException {
+		//// Test values
+		LocalDate date = LocalDate.of(2024, 12, 22); // Sunday
+		TimeSheet timeSheet = timeSheet(new Entry("Test", date, new TimeSpan(5, 0), new TimeSpan(12, 0), zeroTs, false),
+				new Entry("Test", date, new TimeSpan(11, 0), new TimeSpan(16, 0), zeroTs, false));
+
+		//// Checker initialization
+		RuleChecker checker = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all());
+
+		//// Assertions
+		assertEquals(CheckerReturn.INVALID, checker.check());
+		assertEquals(List.of(MiLoGCheckerErrorMessageProvider.DAY_TIME_EXCEEDANCE, MiLoGCheckerErrorMessageProvider.TIME_PAUSE,
+				MiLoGCheckerErrorMessageProvider.TIME_OUTOFBOUNDS, MiLoGCheckerErrorMessageProvider.TIME_SUNDAY, MiLoGCheckerErrorMessageProvider.TIME_SUNDAY,
+				MiLoGCheckerErrorMessageProvider.TIME_OVERLAP), providers(checker));
+	}
+
+	@Test
+	public void testDisabledRule() throws CheckerException {
+		//// Test values
+		LocalDate date = LocalDate.of(2024, 12, 22); // Sunday
+		TimeSheet timeSheet = timeSheet(new Entry("Test", date, new TimeSpan(8, 0), new TimeSpan(12, 0), zeroTs, false));
+
+		//// Checker initialization
+		RuleChecker checker = new RuleChecker(timeSheet, ExportType.EXPORT_LATEX, GermanState.BW, RuleSet.all().without("validWorkingDays"));
+
+		//// Assertions
+		assertEquals(CheckerReturn.VALID, checker.check());
+	}
+
+	private static TimeSheet timeSheet(Entry... entries) {
+		return new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, zeroTs, zeroTs);
+	}
+
+	@Test
+	public void testPauseRulesCannotBeModified() {
+		//// Test values
+		TimeSpan[][] pauseRules = DayPauseTimeRule.getPauseRules();
+		pauseRules[0][1] = zeroTs;
+		pauseRules[1] = new TimeSpan[] { zeroTs, zeroTs };
+
+		//// Assertions
+		assertEquals(new TimeSpan(0, 30), DayPauseTimeRule.getPauseRules()[0][1]);
+		assertEquals(new TimeSpan(9, 0), DayPauseTimeRule.getPauseRules()[1][0]);
+	}
+
+	private static List<CheckerError.CheckerErrorMessageProvider> providers(RuleChecker checker) {
+		return checker.getErrors().stream().map(CheckerError::getErrorMessageProvider).toList();
+	}
+
+}
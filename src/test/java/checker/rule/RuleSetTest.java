@@ -0,0 +1,64 @@
+/* Licensed under MIT 2026. */
+package checker.rule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuleSetTest {
+
+	@Test
+	public void testAllRulesRegistered() {
+		List<String> names = RuleSet.all().getRules().stream().map(CheckerRule::getName).toList();
+
+		assertEquals(List.of("totalTimeExceedance", "dayTimeExceedance", "timePause", "timeOutOfBounds", "validWorkingDays", "timeOverlap",
+				"rowNumExceedance", "nameMissing"), names);
+	}
+
+	@Test
+	public void testEntryRules() {
+		RuleSet rules = RuleSet.all().only(TimeOverlapRule.NAME, RowNumExceedanceRule.NAME, DepartmentNameRule.NAME);
+
+		assertEquals(List.of("timeOverlap", "rowNumExceedance", "nameMissing"), rules.getRules().stream().map(CheckerRule::getName).toList());
+		assertEquals(EnumSet.of(RuleAggregate.ENTRIES), rules.getRequiredAggregates());
+	}
+
+	@Test
+	public void testWithout() {
+		RuleSet rules = RuleSet.all().without("validWorkingDays");
+
+		assertEquals(7, rules.getRules().size());
+		assertFalse(rules.getRequiredAggregates().contains(RuleAggregate.HOLIDAYS));
+		assertEquals(8, RuleSet.all().getRules().size());
+	}
+
+	@Test
+	public void testOnly() {
+		RuleSet rules = RuleSet.all().only("nameMissing", "totalTimeExceedance");
+
+		assertEquals(List.of("totalTimeExceedance", "nameMissing"), rules.getRules().stream().map(CheckerRule::getName).toList());
+		assertEquals(EnumSet.of(RuleAggregate.TOTALS), rules.getRequiredAggregates());
+	}
+
+	@Test
+	public void testUnknownRule() {
+		assertThrows(IllegalArgumentException.class, () -> RuleSet.all().without("unknown"));
+		assertThrows(IllegalArgumentException.class, () -> RuleSet.all().only("unknown"));
+	}
+
+	@Test
+	public void testDuplicateRule() {
+		assertThrows(IllegalArgumentException.class, () -> RuleSet.of(List.of(new DepartmentNameRule(), new TimeOverlapRule(), new DepartmentNameRule())));
+	}
+
+	@Test
+	public void testOrder() {
+		RuleSet rules = RuleSet.of(List.of(new DepartmentNameRule(), new TimeOverlapRule(), new TotalTimeExceedanceRule()));
+
+		assertEquals(List.of("totalTimeExceedance", "timeOverlap", "nameMissing"), rules.getRules().stream().map(CheckerRule::getName).toList());
+	}
+
+}
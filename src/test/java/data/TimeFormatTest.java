@@ -0,0 +1,80 @@
+/* Licensed under MIT 2026. */
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimeFormatTest {
+
+	private static final int MULTIPLE_TEST_ITERATIONS = 10000;
+
+	@Test
+	public void testFormatTime() {
+		//// Assertions
+		assertEquals("00:00", TimeFormat.formatTime(0, 0));
+		assertEquals("09:05", TimeFormat.formatTime(9, 5));
+		assertEquals("23:59", TimeFormat.formatTime(23, 59));
+		assertEquals("123:45", TimeFormat.formatTime(123, 45));
+		assertEquals("-1:-5", TimeFormat.formatTime(-1, -5));
+		assertEquals("-12:30", TimeFormat.formatTime(-12, 30));
+		assertEquals("01h05", TimeFormat.formatTime(1, 5, "h"));
+	}
+
+	@Test
+	public void testFormatTimeRandom() {
+		//// Test values
+		Random rand = new Random(42);
+
+		//// Assertions
+		for (int i = 0; i < MULTIPLE_TEST_ITERATIONS; i++) {
+			int hours = rand.nextInt(2000) - 1000;
+			int minutes = rand.nextInt(200) - 100;
+			assertEquals(String.format(Locale.ROOT, "%02d:%02d", hours, minutes), TimeFormat.formatTime(hours, minutes));
+		}
+		assertEquals(String.format(Locale.ROOT, "%02d:%02d", Integer.MAX_VALUE, Integer.MIN_VALUE),
+				TimeFormat.formatTime(Integer.MAX_VALUE, Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void testFormatTwoDigits() {
+		//// Assertions
+		assertEquals("00", TimeFormat.formatTwoDigits(0));
+		assertEquals("07", TimeFormat.formatTwoDigits(7));
+		assertEquals("12", TimeFormat.formatTwoDigits(12));
+		assertEquals("100", TimeFormat.formatTwoDigits(100));
+		assertEquals("-7", TimeFormat.formatTwoDigits(-7));
+	}
+
+	@Test
+	public void testFormatDate() {
+		//// Test values
+		LocalDate date = LocalDate.of(2019, 11, 3);
+
+		//// Assertions
+		assertEquals("03.11.19", TimeFormat.formatDate(date, false));
+		assertEquals("03.11.2019", TimeFormat.formatDate(date, true));
+		assertEquals("01.01.00", TimeFormat.formatDate(LocalDate.of(2000, 1, 1), false));
+		assertEquals("31.12.0099", TimeFormat.formatDate(LocalDate.of(99, 12, 31), true));
+	}
+
+	@Test
+	public void testFormatDateRandom() {
+		//// Test values
+		DateTimeFormatter twoDigits = DateTimeFormatter.ofPattern("dd.MM.yy");
+		DateTimeFormatter fourDigits = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+		Random rand = new Random(42);
+
+		//// Assertions
+		for (int i = 0; i < MULTIPLE_TEST_ITERATIONS; i++) {
+			LocalDate date = LocalDate.ofEpochDay(rand.nextLong(LocalDate.of(-20000, 1, 1).toEpochDay(), LocalDate.of(20000, 1, 1).toEpochDay()));
+			assertEquals(date.format(twoDigits), TimeFormat.formatDate(date, false));
+			assertEquals(date.format(fourDigits), TimeFormat.formatDate(date, true));
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/* Licensed under MIT 2026. */
+package data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TimeScannerTest {
+
+	private static final int MULTIPLE_TEST_ITERATIONS = 10000;
+	private static final String TIME_CHARACTERS = "0123456789:.-+ a";
+
+	@Test
+	public void testValid() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(Integer.MAX_VALUE, 1, 2, 59);
+
+		//// Assertions
+		assertEquals(0, scanner.scan("0:0", ":"));
+		assertEquals(0, scanner.scan("00:00", ":"));
+		assertEquals(59, scanner.scan("0:59", ":"));
+		assertEquals(9 * 60 + 5, scanner.scan("09:5", ":"));
+		assertEquals(123 * 60 + 45, scanner.scan("123:45", ":"));
+	}
+
+	@Test
+	public void testInvalid() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(Integer.MAX_VALUE, 1, 2, 59);
+
+		//// Assertions
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan(":30", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:60", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:005", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("-1:00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("+1:00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan(" 1:00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:00 ", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1.00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:00", ""));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("١:00", ":"));
+	}
+
+	@Test
+	public void testSeparator() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(Integer.MAX_VALUE, 1, 2, 59);
+
+		//// Assertions
+		assertEquals(90, scanner.scan("1.30", "."));
+		assertEquals(90, scanner.scan("1h30", "h"));
+		assertEquals(90, scanner.scan("1 h 30", " h "));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:30", "."));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1 h30", " h "));
+	}
+
+	@Test
+	public void testDigitLimits() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(2, 2, 2, 99);
+
+		//// Assertions
+		assertEquals(75, scanner.scan("0:75", ":"));
+		assertEquals(99 * 60 + 99, scanner.scan("99:99", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("100:00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:5", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("1:500", ":"));
+	}
+
+	@Test
+	public void testOverflow() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(Integer.MAX_VALUE, 1, 2, 59);
+		int maxHours = Integer.MAX_VALUE / 60;
+		int maxMinutes = Integer.MAX_VALUE % 60;
+
+		//// Assertions
+		assertEquals(Integer.MAX_VALUE, scanner.scan(maxHours + ":" + maxMinutes, ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan(maxHours + ":" + (maxMinutes + 1), ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan((maxHours + 1) + ":00", ":"));
+		assertEquals(TimeScanner.NO_MATCH, scanner.scan("99999999999999999999:00", ":"));
+	}
+
+	@Test
+	public void testInvalidFormat() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeScanner(0, 1, 2, 59));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeScanner(2, 0, 2, 59));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeScanner(2, 2, 1, 59));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeScanner(2, 1, 2, -1));
+	}
+
+	@Test
+	public void testMatchesRegexRandom() {
+		//// Test values
+		TimeScanner scanner = new TimeScanner(2, 2, 2, 99);
+		Pattern pattern = Pattern.compile("^(\\d{1,2}):(\\d{2})$");
+		Random rand = new Random(42);
+
+		//// Assertions
+		for (int i = 0; i < MULTIPLE_TEST_ITERATIONS; i++) {
+			StringBuilder text = new StringBuilder();
+			int length = rand.nextInt(7);
+			for (int j = 0; j < length; j++) {
+				text.append(TIME_CHARACTERS.charAt(rand.nextInt(TIME_CHARACTERS.length())));
+			}
+
+			var matcher = pattern.matcher(text);
+			int expected = matcher.matches() ? Integer.parseInt(matcher.group(1)) * 60 + Integer.parseInt(matcher.group(2)) : TimeScanner.NO_MATCH;
+			assertEquals(expected, scanner.scan(text, ":"), text.toString());
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/* Licensed under MIT 2026. */
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TimeSpanMinutesTest {
+
+	@Test
+	public void testToMinutes() {
+		assertEquals(0, new TimeSpan(0, 0).toMinutes());
+		assertEquals(59, new TimeSpan(0, 59).toMinutes());
+		assertEquals(605, new TimeSpan(10, 5).toMinutes());
+		assertEquals(6000, new TimeSpan(100, 0).toMinutes());
+	}
+
+	@Test
+	public void testOfMinutes() {
+		//// Test values
+		TimeSpan small = TimeSpan.ofMinutes(605);
+		TimeSpan large = TimeSpan.ofMinutes(6001);
+
+		//// Assertions
+		assertEquals(10, small.getHour());
+		assertEquals(5, small.getMinute());
+		assertEquals(100, large.getHour());
+		assertEquals(1, large.getMinute());
+		assertEquals(new TimeSpan(10, 5), small);
+		assertEquals(new TimeSpan(100, 1), large);
+	}
+
+	@Test
+	public void testOfMinutesNegative() {
+		assertThrows(IllegalArgumentException.class, () -> TimeSpan.ofMinutes(-1));
+	}
+
+	@Test
+	public void testOfValidates() {
+		assertThrows(IllegalArgumentException.class, () -> TimeSpan.of(-1, 0));
+		assertThrows(IllegalArgumentException.class, () -> TimeSpan.of(0, 60));
+	}
+
+	@Test
+	public void testCommonValuesShared() {
+		assertSame(TimeSpan.ofMinutes(0), TimeSpan.of(0, 0));
+		assertSame(TimeSpan.ofMinutes(24 * 60), TimeSpan.of(24, 0));
+		assertSame(TimeSpan.of(8, 30), new TimeSpan(4, 15).add(new TimeSpan(4, 15)));
+		assertSame(TimeSpan.of(1, 45), new TimeSpan(2, 0).subtract(new TimeSpan(0, 15)));
+		assertSame(TimeSpan.of(12, 34), TimeSpan.parse("12:34"));
+		assertNotSame(TimeSpan.ofMinutes(24 * 60 + 1), TimeSpan.ofMinutes(24 * 60 + 1));
+	}
+
+	@Test
+	public void testPlusMinutes() {
+		//// Test values
+		TimeSpan[] timeSpans = { new TimeSpan(1, 30), new TimeSpan(0, 45), new TimeSpan(30, 0) };
+
+		int sum = 0;
+		for (TimeSpan timeSpan : timeSpans) {
+			sum = timeSpan.plusMinutes(sum);
+		}
+
+		//// Assertions
+		assertEquals(90 + 45 + 1800, sum);
+	}
+
+	@Test
+	public void testHashCode() {
+		assertEquals(new TimeSpan(10, 5).hashCode(), TimeSpan.ofMinutes(605).hashCode());
+		assertEquals(new TimeSpan(100, 0).hashCode(), new TimeSpan(100, 0).hashCode());
+	}
+
+	@Test
+	public void testEntryWorkingMinutes() {
+		//// Test values
+		Entry entry = new Entry("Test", LocalDate.of(2024, 12, 2), new TimeSpan(8, 15), new TimeSpan(17, 0), new TimeSpan(0, 45), false);
+		Entry invalid = new Entry("Test", LocalDate.of(2024, 12, 2), new TimeSpan(8, 0), new TimeSpan(9, 0), new TimeSpan(1, 30), false);
+
+		//// Assertions
+		assertEquals(480, entry.getWorkingMinutes());
+		assertEquals(new TimeSpan(8, 0), entry.getWorkingTime());
+		assertThrows(IllegalArgumentException.class, invalid::getWorkingMinutes);
+		assertThrows(IllegalArgumentException.class, invalid::getWorkingTime);
+	}
+}
@@ -0,0 +1,91 @@
+/* Licensed under MIT 2026. */
+package etc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SubstringMatcherTest {
+
+	@Test
+	public void testEmptySubstring() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SubstringMatcher(List.of("a", "")));
+	}
+
+	@Test
+	public void testNoMatch() {
+		SubstringMatcher matcher = new SubstringMatcher(List.of("abc", "xyz"));
+
+		assertNull(matcher.find("Hello World", 0));
+		assertNull(matcher.find("", 0));
+	}
+
+	@Test
+	public void testLowestIndexFirst() {
+		// "World" ends before "lo W" does, but starts later
+		SubstringMatcher matcher = new SubstringMatcher(List.of("World", "lo W"));
+
+		assertEquals(new SubstringMatcher.Match(3, 1), matcher.find("Hello World", 0));
+		assertEquals(new SubstringMatcher.Match(6, 0), matcher.find("Hello World", 4));
+	}
+
+	@Test
+	public void testCollectionOrderAtSameIndex() {
+		assertEquals(new SubstringMatcher.Match(2, 0), new SubstringMatcher(List.of("ll", "llo")).find("Hello World", 0));
+		assertEquals(new SubstringMatcher.Match(2, 0), new SubstringMatcher(List.of("llo", "ll")).find("Hello World", 0));
+	}
+
+	@Test
+	public void testMatchAfterFailure() {
+		// the automaton has to fall back from "abcd" to "bc"
+		SubstringMatcher matcher = new SubstringMatcher(List.of("abcd", "bc"));
+
+		assertEquals(new SubstringMatcher.Match(2, 1), matcher.find("xabce", 0));
+		assertEquals(new SubstringMatcher.Match(1, 0), matcher.find("xabcd", 0));
+	}
+
+	@Test
+	public void testFindMatchesNaiveSearch() {
+		//// Test values
+		Random random = new Random(42);
+		String alphabet = "abc";
+
+		for (int n = 0; n < 2000; n++) {
+			List<String> substrings = new ArrayList<>();
+			int count = 1 + random.nextInt(4);
+			for (int i = 0; i < count; i++) {
+				substrings.add(randomString(random, alphabet, 1 + random.nextInt(4)));
+			}
+			String string = randomString(random, alphabet, random.nextInt(20));
+			int from = random.nextInt(string.length() + 1);
+
+			//// Assertions
+			assertEquals(findNaive(substrings, string, from), new SubstringMatcher(substrings).find(string, from), substrings + " in " + string);
+		}
+	}
+
+	private static SubstringMatcher.Match findNaive(List<String> substrings, String string, int from) {
+		for (int i = from; i < string.length(); i++) {
+			for (int j = 0; j < substrings.size(); j++) {
+				if (string.startsWith(substrings.get(j), i)) {
+					return new SubstringMatcher.Match(i, j);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String randomString(Random random, String alphabet, int length) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+}
@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package i18n;
 
 import org.junit.jupiter.api.Assertions;
@@ -31,6 +31,18 @@ public class DateFormatWrapperTest {
 		assertEquals("2019/07/11 09:30:17", result);
 	}
 
+	@Test
+	public void testClone() {
+		// data
+		LocalDateTime date = LocalDateTime.of(2019, 7, 11, 9, 30, 17);
+		DateFormatWrapper wrapper = new DateFormatWrapper(new SimpleDateFormat("yyyy/MM/dd HH:mm:ss"));
+		// execute
+		DateFormatWrapper clone = (DateFormatWrapper) wrapper.clone();
+		// assert
+		assertNotSame(wrapper, clone);
+		assertEquals(wrapper.format(date), clone.format(date));
+	}
+
 	@Test
 	public void testDateFormatException() {
 		// data
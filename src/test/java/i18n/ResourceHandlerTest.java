@@ -1,4 +1,4 @@
-/* Licensed under MIT 2023-2024. */
+/* Licensed under MIT 2023-2026. */
 package i18n;
 
 import i18n.ResourceHandler.ResourceHandlerInstance;
@@ -6,7 +6,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -167,4 +172,59 @@ public class ResourceHandlerTest {
 		assertEquals("Fallback to 21. Juli 2019", result);
 	}
 
+	@Test
+	public void testGetMessageCacheInvalidatedOnLocaleChange() {
+		// data
+		resourceHandler.setLocale(Locale.ENGLISH);
+		// execute
+		String english = resourceHandler.getMessage("test");
+		String englishDate = resourceHandler.getMessage("dateWithFormat", LocalDate.of(2019, 7, 21));
+		resourceHandler.setLocale(Locale.GERMAN);
+		String german = resourceHandler.getMessage("test");
+		String germanDate = resourceHandler.getMessage("dateWithFormat", LocalDate.of(2019, 7, 21));
+		// assert
+		assertEquals("Hello World!", english);
+		assertEquals("On Jul 21, 2019", englishDate);
+		assertEquals("Hallo Welt!", german);
+		assertEquals("Am 21.07.2019", germanDate);
+	}
+
+	@Test
+	public void testGetMessageArgsRepeated() {
+		// data
+		resourceHandler.setLocale(Locale.ENGLISH);
+		// execute
+		String first = resourceHandler.getMessage("args", "first");
+		String second = resourceHandler.getMessage("args", "second");
+		// assert
+		assertEquals("Insert > first <", first);
+		assertEquals("Insert > second <", second);
+	}
+
+	@Test
+	public void testGetMessageConcurrent() throws Exception {
+		// data
+		resourceHandler.setLocale(Locale.GERMAN);
+		List<Future<Boolean>> results = new ArrayList<>();
+		// execute
+		try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+			for (int thread = 0; thread < 8; thread++) {
+				int month = thread + 1;
+				results.add(executor.submit(() -> {
+					for (int day = 1; day <= 28; day++) {
+						String expected = "Am %02d.%02d.2019".formatted(day, month);
+						if (!expected.equals(resourceHandler.getMessage("dateWithFormat", LocalDate.of(2019, month, day)))) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+		}
+		// assert
+		for (Future<Boolean> result : results) {
+			assertEquals(true, result.get());
+		}
+	}
+
 }
@@ -0,0 +1,182 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileControllerTest {
+
+	@TempDir
+	Path tempDirectory;
+
+	@Test
+	public void testReadStringKeepsLineEndings() throws IOException {
+		//// Test values
+		String content = "{\n\t\"a\": \"ä\",\r\n\t\"b\": 1\r}";
+		Path file = tempDirectory.resolve("small.json");
+		Files.writeString(file, content);
+
+		//// Assertions
+		assertEquals(content, FileController.readString(file));
+		assertEquals(content, FileController.readFileToString(file.toFile()));
+		assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), FileController.readBytes(file));
+	}
+
+	@Test
+	public void testReadInputStreamKeepsLineEndings() throws IOException {
+		//// Test values
+		String content = "\\documentclass{article}\r\n% Umlaute äöü\nLast line without separator";
+		ByteArrayInputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+
+		//// Assertions
+		assertEquals(content, FileController.readInputStreamToString(stream));
+		assertEquals("", FileController.readInputStreamToString(new ByteArrayInputStream(new byte[0])));
+	}
+
+	@Test
+	public void testReadStringEmpty() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("empty.json");
+		Files.createFile(file);
+
+		//// Assertions
+		assertEquals("", FileController.readString(file));
+	}
+
+	@Test
+	public void testReadStringLarge() throws IOException {
+		//// Test values
+		String content = "Zeile mit Umlauten äöü und Symbolen €\r\n".repeat(32 * 1024);
+		Path file = tempDirectory.resolve("large.json");
+		Files.writeString(file, content);
+
+		//// Assertions
+		assertEquals(content, FileController.readString(file));
+		// The file is not held open after reading, so it can be replaced
+		FileController.writeAtomically(file, out -> out.write('x'));
+		assertEquals("x", FileController.readString(file));
+	}
+
+	@Test
+	public void testReadStringMalformedInput() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("malformed.json");
+		Files.write(file, new byte[] { 'a', (byte) 0xFF, 'b' });
+
+		//// Assertions
+		assertEquals("a�b", FileController.readString(file));
+	}
+
+	@Test
+	public void testReadStringMissingFile() {
+		//// Test values
+		Path file = tempDirectory.resolve("missing.json");
+
+		//// Assertions
+		assertThrows(IOException.class, () -> FileController.readString(file));
+		assertThrows(IOException.class, () -> FileController.readFileToString(file.toFile()));
+	}
+
+	@Test
+	public void testWriteAtomicallyCreatesFile() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("new.json");
+
+		//// Write
+		FileController.writeAtomically(file, out -> out.write("{}".getBytes(StandardCharsets.UTF_8)));
+
+		//// Assertions
+		assertEquals("{}", Files.readString(file));
+		assertEquals(List.of(file), listDirectory());
+	}
+
+	@Test
+	public void testWriteAtomicallyReplacesFile() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("month.json");
+		Files.writeString(file, "old content that is longer than the new one");
+
+		//// Write
+		FileController.saveStringToFile("new ä", file.toFile());
+		assertEquals("new ä", Files.readString(file));
+		FileController.writeAtomically(file, out -> out.write(" without sync".getBytes(StandardCharsets.UTF_8)), false);
+
+		//// Assertions
+		assertEquals(" without sync", Files.readString(file));
+		assertEquals(List.of(file), listDirectory());
+	}
+
+	@Test
+	public void testWriteAtomicallyFailureKeepsFile() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("month.json");
+		Files.writeString(file, "old");
+
+		//// Write
+		assertThrows(IOException.class, () -> FileController.writeAtomically(file, out -> {
+			out.write("partial".getBytes(StandardCharsets.UTF_8));
+			throw new IOException("Disk full");
+		}));
+		assertThrows(IllegalStateException.class, () -> FileController.writeAtomically(file, out -> {
+			throw new IllegalStateException();
+		}));
+
+		//// Assertions
+		assertEquals("old", Files.readString(file));
+		assertEquals(List.of(file), listDirectory());
+	}
+
+	@Test
+	public void testWriteAtomicallyIgnoresClose() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("closed.json");
+
+		//// Write
+		FileController.writeAtomically(file, out -> {
+			out.write('a');
+			out.close();
+		});
+
+		//// Assertions
+		assertEquals("a", Files.readString(file));
+	}
+
+	@Test
+	public void testSetSyncWrites() throws IOException {
+		//// Test values
+		Path file = tempDirectory.resolve("scratch.tex");
+
+		//// Write
+		assertTrue(FileController.isSyncWrites());
+		FileController.setSyncWrites(false);
+		try {
+			assertFalse(FileController.isSyncWrites());
+			FileController.saveStringToFile("scratch", file.toFile());
+		} finally {
+			FileController.setSyncWrites(true);
+		}
+
+		//// Assertions
+		assertEquals("scratch", Files.readString(file));
+	}
+
+	private List<Path> listDirectory() throws IOException {
+		try (Stream<Path> files = Files.list(tempDirectory)) {
+			return files.toList();
+		}
+	}
+}
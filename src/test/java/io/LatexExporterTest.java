@@ -0,0 +1,63 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import data.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Month;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LatexExporterTest {
+
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2019, Month.NOVEMBER);
+	private static final TimeSpan ZERO = new TimeSpan(0, 0);
+
+	@Test
+	public void testGetTemplateReadOnce() throws IOException {
+		//// Assertions
+		assertSame(LatexExporter.getTemplate(), LatexExporter.getTemplate());
+	}
+
+	@Test
+	public void testExportToStream() throws IOException {
+		//// Test values
+		TimeSheet timeSheet = createTimeSheet();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//// Assertions
+		LatexExporter.export(timeSheet, false, out);
+		assertEquals(new LatexGenerator(timeSheet, LatexExporter.getTemplate(), false).generate(), out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testExportToFileExcludingVacation() throws IOException {
+		//// Test values
+		TimeSheet timeSheet = createTimeSheet();
+		Path file = Files.createTempFile("LatexExporterTest", ".tex");
+
+		//// Assertions
+		try {
+			LatexExporter.export(timeSheet, true, file.toFile());
+			assertEquals(new LatexGenerator(timeSheet, LatexExporter.getTemplate(), true).generate(), Files.readString(file));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static TimeSheet createTimeSheet() {
+		Entry[] entries = new Entry[] {
+				new Entry("Test Action", YEAR_MONTH.atDay(12), new TimeSpan(10, 0), new TimeSpan(14, 0), new TimeSpan(0, 30), false),
+				new Entry("Urlaub", YEAR_MONTH.atDay(13), new TimeSpan(10, 0), new TimeSpan(12, 0), ZERO, true) };
+		return new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, ZERO, ZERO);
+	}
+}
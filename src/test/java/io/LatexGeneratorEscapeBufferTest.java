@@ -0,0 +1,36 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LatexGeneratorEscapeBufferTest {
+
+	@Test
+	public void testEscapeWithoutSpecialCharactersReturnsInput() {
+		String text = "Fragen und Antworten, Übung 1!";
+
+		assertSame(text, LatexGenerator.escapeText(text));
+	}
+
+	@Test
+	public void testEscapeIntoBuffer() {
+		//// Test values
+		StringBuilder buffer = new StringBuilder("Name: ");
+
+		LatexGenerator.escapeText("Max ~Mustermann", buffer);
+		buffer.append(", Action: ");
+		LatexGenerator.escapeText("50% ^ more", buffer);
+
+		//// Assertions
+		assertEquals("Name: Max \\textasciitilde Mustermann, Action: 50\\% \\textasciicircum\\ more", buffer.toString());
+	}
+
+	@Test
+	public void testEscapeCommandAtEnd() {
+		assertEquals("a\\textbackslash ", LatexGenerator.escapeText("a\\"));
+		assertEquals("\\_\\textasciitilde\\ ", LatexGenerator.escapeText("_~ "));
+	}
+}
@@ -0,0 +1,129 @@
+/* Licensed under MIT 2026. */
+package io;
+
+import data.*;
+import lombok.Getter;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatexTemplateTest {
+
+	private static final Employee EMPLOYEE = new Employee("Max Mustermann", 1234567);
+	private static final Profession PROFESSION = new Profession("Fakultät für Informatik", WorkingArea.UB, new TimeSpan(40, 0), 10.31);
+	private static final YearMonth YEAR_MONTH = YearMonth.of(2019, Month.NOVEMBER);
+	private static final TimeSpan zeroTs = new TimeSpan(0, 0);
+
+	@Getter
+	private enum TestPlaceholder implements LatexTemplate.Placeholder {
+		NAME("!name"), ROW("!row"), ROW_LONG("!rowLong");
+
+		private final String placeholder;
+
+		TestPlaceholder(String placeholder) {
+			this.placeholder = placeholder;
+		}
+	}
+
+	@Test
+	public void testRenderWithoutPlaceholders() throws IOException {
+		LatexTemplate template = LatexTemplate.compile("no placeholders! here!", List.of(TestPlaceholder.values()));
+
+		StringBuilderWriter out = new StringBuilderWriter();
+		template.render(out, (placeholder, occurrence) -> fail("No slot expected"));
+
+		assertEquals("no placeholders! here!", out.toString());
+	}
+
+	@Test
+	public void testRenderOccurrences() throws IOException {
+		//// Test values
+		LatexTemplate template = LatexTemplate.compile("!name: !row, !row & !row; !name!", List.of(TestPlaceholder.values()));
+
+		StringBuilderWriter out = new StringBuilderWriter();
+		template.render(out, (placeholder, occurrence) -> placeholder == TestPlaceholder.NAME ? "N" + occurrence : "[" + occurrence + "]");
+
+		//// Assertions
+		assertEquals("N0: [0], [1] & [2]; N1!", out.toString());
+	}
+
+	@Test
+	public void testFirstMatchingPlaceholderTakesPrecedence() throws IOException {
+		//// Test values
+		LatexTemplate template = LatexTemplate.compile("!rowLong", List.of(TestPlaceholder.values()));
+
+		StringBuilderWriter out = new StringBuilderWriter();
+		template.render(out, (placeholder, occurrence) -> ((TestPlaceholder) placeholder).name());
+
+		//// Assertions
+		// Same as replacing the placeholders one after another in the given order
+		assertEquals("ROWLong", out.toString());
+	}
+
+	@Test
+	public void testSubstitutesAreNotRescanned() throws IOException {
+		LatexTemplate template = LatexTemplate.compile("!name !row", List.of(TestPlaceholder.values()));
+
+		StringBuilderWriter out = new StringBuilderWriter();
+		template.render(out, (placeholder, occurrence) -> placeholder == TestPlaceholder.NAME ? "!row$\\" : "x");
+
+		assertEquals("!row$\\ x", out.toString());
+	}
+
+	@Test
+	public void testGenerateTableOverflow() throws IOException {
+		//// Test values
+		String source;
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream("MiLoG_Template.tex")) {
+			source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		Entry[] entries = new Entry[25];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = new Entry("Action " + i, YEAR_MONTH.atDay(i + 1), new TimeSpan(10, 0), new TimeSpan(11, 0), zeroTs, i % 5 == 0);
+		}
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, entries, zeroTs, zeroTs);
+
+		String all = new LatexGenerator(timeSheet, source, false).generate();
+		String withoutVacation = new LatexGenerator(timeSheet, source, true).generate();
+
+		//// Assertions
+		for (String latex : List.of(all, withoutVacation)) {
+			assertFalse(latex.contains("!action"));
+			assertFalse(latex.contains("!dayTotal"));
+			assertFalse(latex.contains("!year"));
+		}
+		// The table has 20 rows, the remaining entries are dropped
+		assertTrue(all.contains("Action 19"));
+		assertFalse(all.contains("Action 20"));
+		assertTrue(all.indexOf("Action 1}") < all.indexOf("Action 2}"));
+		assertFalse(withoutVacation.contains("Action 0"));
+		assertFalse(withoutVacation.contains("Action 5"));
+		assertTrue(withoutVacation.contains("Action 24"));
+	}
+
+	@Test
+	public void testGenerateStreamed() throws IOException {
+		//// Test values
+		Entry entry = new Entry("Test Action ~ \\ & Ü", YEAR_MONTH.atDay(12), new TimeSpan(10, 0), new TimeSpan(14, 0), new TimeSpan(0, 30), false);
+		TimeSheet timeSheet = new TimeSheet(EMPLOYEE, PROFESSION, YEAR_MONTH, new Entry[] { entry }, zeroTs, zeroTs);
+		LatexGenerator generator = new LatexGenerator(timeSheet, "!department: !action !date, !action !dayTotal");
+
+		StringBuilderWriter writer = new StringBuilderWriter();
+		generator.generate(writer);
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		generator.generate(stream);
+
+		//// Assertions
+		assertEquals(generator.generate(), writer.toString());
+		assertEquals(generator.generate(), stream.toString(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,92 @@
+/* Licensed under MIT 2026. */
+package main;
+
+import main.request.BatchGenerateRequest;
+import main.request.GenerateRequest;
+import main.request.OutputFormat;
+import main.request.Request;
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UserInputTest {
+
+	private static final String[] BATCH_ARGS = { "-b", "global.json", "months/*.json", "out" };
+
+	@Test
+	public void testBatch() throws ParseException {
+		//// Test values
+		Request request = new UserInput(BATCH_ARGS).parse();
+
+		//// Assertions
+		BatchGenerateRequest batch = assertInstanceOf(BatchGenerateRequest.class, request);
+		assertEquals(new File("global.json"), batch.getGlobalFile());
+		assertEquals("months/*.json", batch.getMonthSource());
+		assertEquals(new File("out"), batch.getOutputDirectory());
+		assertEquals(Runtime.getRuntime().availableProcessors(), batch.getParallelism());
+		assertEquals(OutputFormat.LATEX, batch.getOutputFormat());
+		assertNull(batch.getMergeFileName());
+		assertFalse(batch.isExcludeVacationEntries());
+	}
+
+	@Test
+	public void testBatchOptions() throws ParseException {
+		//// Test values
+		Request pdf = new UserInput(args("-p", "3", "-P", "-n")).parse();
+		Request merge = new UserInput(args("--merge", "all.pdf")).parse();
+
+		//// Assertions
+		BatchGenerateRequest pdfBatch = assertInstanceOf(BatchGenerateRequest.class, pdf);
+		assertEquals(3, pdfBatch.getParallelism());
+		assertEquals(OutputFormat.PDF, pdfBatch.getOutputFormat());
+		assertTrue(pdfBatch.isExcludeVacationEntries());
+
+		// Merged time sheets are always PDF files
+		BatchGenerateRequest mergeBatch = assertInstanceOf(BatchGenerateRequest.class, merge);
+		assertEquals(OutputFormat.PDF, mergeBatch.getOutputFormat());
+		assertEquals("all.pdf", mergeBatch.getMergeFileName());
+	}
+
+	@Test
+	public void testNoBatch() throws ParseException {
+		//// Test values
+		Request request = new UserInput(new String[] { "-f", "global.json", "month.json", "out.tex" }).parse();
+
+		//// Assertions
+		assertInstanceOf(GenerateRequest.class, request);
+		assertFalse(request instanceof BatchGenerateRequest);
+	}
+
+	@Test
+	public void testBatchRejectedCombinations() {
+		//// Assertions
+		assertThrows(ParseException.class, () -> new UserInput(args("-g")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(args("-f", "global.json", "month.json", "out.tex")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(new String[] { "-f", "global.json", "month.json", "out.tex", "-P" }).parse());
+		assertThrows(ParseException.class, () -> new UserInput(new String[] { "-M", "all.pdf" }).parse());
+		assertThrows(ParseException.class, () -> new UserInput(new String[] { "-b", "global.json", "months" }).parse());
+	}
+
+	@Test
+	public void testInvalidParallelism() {
+		//// Assertions
+		assertThrows(ParseException.class, () -> new UserInput(args("-p", "0")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(args("-p", "-2")).parse());
+		assertThrows(ParseException.class, () -> new UserInput(args("-p", "many")).parse());
+	}
+
+	private static String[] args(String... additional) {
+		String[] args = new String[BATCH_ARGS.length + additional.length];
+		System.arraycopy(BATCH_ARGS, 0, args, 0, BATCH_ARGS.length);
+		System.arraycopy(additional, 0, args, BATCH_ARGS.length, additional.length);
+		return args;
+	}
+}
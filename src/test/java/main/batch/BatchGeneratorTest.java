@@ -0,0 +1,280 @@
+/* Licensed under MIT 2026. */
+package main.batch;
+
+import i18n.ResourceHandler;
+import main.request.BatchGenerateRequest;
+import main.request.OutputFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import parser.ParseException;
+import ui.export.PDFCompiler;
+import ui.export.PDFMemorySettings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchGeneratorTest {
+
+	private static final String GLOBAL = """
+			{
+				"name": "Max Mustermann",
+				"staffId": 1234567,
+				"department": "Fakultät für Informatik",
+				"workingTime": "40:00",
+				"wage": 10.31,
+				"workingArea": "ub"
+			}
+			""";
+	private static final String MONTH = """
+			{
+				"year": 2019,
+				"month": 11,
+				"pred_transfer": "0:00",
+				"succ_transfer": "0:00",
+				"entries": [
+					{"action": "Korrektur", "day": 4, "start": "10:00", "end": "11:00"}
+				]
+			}
+			""";
+	// The 3rd of November 2019 is a Sunday
+	private static final String INVALID_MONTH = MONTH.replace("\"day\": 4", "\"day\": 3");
+	private static final String MALFORMED_MONTH = "{ \"year\": 2019, ";
+
+	@TempDir
+	Path tempDirectory;
+
+	@Test
+	public void testResolveMonthFilesDirectory() throws IOException {
+		//// Test values
+		Path months = Files.createDirectory(tempDirectory.resolve("months"));
+		Path global = write(months.resolve("global.json"), GLOBAL);
+		write(months.resolve("c.json"), MONTH);
+		write(months.resolve("a.json"), MONTH);
+		write(months.resolve("B.json"), MONTH);
+		write(months.resolve("notes.txt"), "");
+		Files.createDirectory(months.resolve("d.json"));
+
+		//// Assertions
+		assertEquals(List.of("B.json", "a.json", "c.json"), names(BatchGenerator.resolveMonthFiles(months.toString(), global.toFile())));
+	}
+
+	@Test
+	public void testResolveMonthFilesGlob() throws IOException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		write(tempDirectory.resolve("2024-02.json"), MONTH);
+		write(tempDirectory.resolve("2024-01.json"), MONTH);
+		write(tempDirectory.resolve("2023-12.json"), MONTH);
+
+		//// Assertions
+		assertEquals(List.of("2024-01.json", "2024-02.json"),
+				names(BatchGenerator.resolveMonthFiles(tempDirectory.resolve("2024-*.json").toString(), global.toFile())));
+		assertEquals(List.of("2023-12.json", "2024-01.json", "2024-02.json"),
+				names(BatchGenerator.resolveMonthFiles(tempDirectory.resolve("*.json").toString(), global.toFile())));
+	}
+
+	@Test
+	public void testResolveMonthFilesSkipsRelativeGlobalFile() throws IOException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		write(tempDirectory.resolve("month.json"), MONTH);
+		File relativeGlobal = new File(tempDirectory.resolve("sub").resolve("..").resolve("global.json").toString());
+
+		//// Assertions
+		assertEquals(List.of("month.json"), names(BatchGenerator.resolveMonthFiles(tempDirectory.toString(), relativeGlobal)));
+		assertEquals(List.of(), names(BatchGenerator.resolveMonthFiles(tempDirectory.resolve("g*.json").toString(), global.toFile())));
+	}
+
+	@Test
+	public void testRunGeneratesValidMonths() throws IOException, ParseException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		Path months = Files.createDirectory(tempDirectory.resolve("months"));
+		write(months.resolve("a.json"), MONTH);
+		write(months.resolve("b.json"), INVALID_MONTH);
+		write(months.resolve("c.json"), MALFORMED_MONTH);
+		write(months.resolve("d.month.json"), MONTH);
+		Path output = tempDirectory.resolve("output");
+
+		//// Run
+		List<BatchResult> reported = new ArrayList<>();
+		List<BatchResult> results = new BatchGenerator(request(global, months, output)).run(reported::add);
+
+		//// Assertions
+		assertEquals(results, reported);
+		assertEquals(List.of("a.json", "b.json", "c.json", "d.month.json"), results.stream().map(result -> result.monthFile().getName()).toList());
+
+		assertTrue(results.get(0).isSuccess());
+		assertEquals(output.resolve("a.tex").toFile(), results.get(0).outputFile());
+		assertTrue(results.get(3).isSuccess());
+		assertEquals(output.resolve("d.month.tex").toFile(), results.get(3).outputFile());
+
+		// The checker errors of an invalid month are reported
+		assertFalse(results.get(1).isSuccess());
+		assertNull(results.get(1).outputFile());
+		assertEquals(1, results.get(1).errors().size());
+		// A month that cannot be parsed is reported as well
+		assertFalse(results.get(2).isSuccess());
+		assertEquals(1, results.get(2).errors().size());
+
+		// Only the valid months are generated
+		assertEquals(List.of("a.tex", "d.month.tex"), names(output));
+		assertTrue(Files.readString(output.resolve("a.tex")).contains("Max Mustermann"));
+		assertEquals(Files.readString(output.resolve("a.tex")), Files.readString(output.resolve("d.month.tex")));
+	}
+
+	@Test
+	public void testRunAcceptsSameMonthsAsSingleMode() throws IOException, ParseException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		Path months = Files.createDirectory(tempDirectory.resolve("months"));
+		// Databind coerces the scalar values, so the batch mode has to do so as well
+		write(months.resolve("a.json"), MONTH.replace("\"year\": 2019", "\"year\": \"2019\"").replace("\"day\": 4", "\"day\": 4.0"));
+		Path output = tempDirectory.resolve("output");
+
+		//// Run
+		List<BatchResult> results = new BatchGenerator(request(global, months, output)).run(result -> {
+		});
+
+		//// Assertions
+		assertTrue(results.get(0).isSuccess(), () -> String.join(", ", results.get(0).errors()));
+		assertEquals(List.of("a.tex"), names(output));
+	}
+
+	@Test
+	public void testRunWithoutMonthFiles() throws IOException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+
+		//// Assertions
+		assertThrows(IOException.class, () -> new BatchGenerator(request(global, tempDirectory, tempDirectory.resolve("output"))).run(result -> {
+		}));
+		assertFalse(Files.exists(tempDirectory.resolve("output")));
+	}
+
+	@Test
+	public void testRunMergeKeepsPartsOutOfOutputDirectory() throws IOException, ParseException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		Path months = Files.createDirectory(tempDirectory.resolve("months"));
+		write(months.resolve("a.json"), MONTH);
+		write(months.resolve("b.json"), INVALID_MONTH);
+		write(months.resolve("c.json"), MONTH);
+		Path output = tempDirectory.resolve("output");
+		Path scratch = Files.createDirectory(tempDirectory.resolve("scratch"));
+
+		//// Run
+		List<BatchResult> results = withScratchDirectory(scratch, () -> new BatchGenerator(mergeRequest(global, months, output)).run(result -> {
+		}));
+
+		//// Assertions
+		assertEquals(List.of(true, false, true), results.stream().map(BatchResult::isSuccess).toList());
+		assertEquals(output.resolve("all.pdf").toFile(), results.get(0).outputFile());
+		assertEquals(List.of("all.pdf"), names(output));
+		assertEquals(List.of(), names(scratch));
+	}
+
+	@Test
+	public void testRunMergeDeletesPartsOnFailure() throws IOException {
+		//// Test values
+		Path global = write(tempDirectory.resolve("global.json"), GLOBAL);
+		Path months = Files.createDirectory(tempDirectory.resolve("months"));
+		write(months.resolve("a.json"), MONTH);
+		Path output = tempDirectory.resolve("output");
+		// The archive cannot replace a non-empty directory
+		write(Files.createDirectories(output.resolve("all.pdf")).resolve("keep.txt"), "");
+		Path scratch = Files.createDirectory(tempDirectory.resolve("scratch"));
+
+		//// Assertions
+		assertThrows(IOException.class, () -> withScratchDirectory(scratch, () -> new BatchGenerator(mergeRequest(global, months, output)).run(result -> {
+		})));
+		assertEquals(List.of("all.pdf"), names(output));
+		assertEquals(List.of(), names(scratch));
+	}
+
+	@Test
+	public void testSummaryAndExitCode() {
+		//// Test values
+		BatchResult success = BatchResult.success(new File("a.json"), new File("a.tex"));
+		BatchResult failure = BatchResult.failure(new File("b.json"), List.of("Error"));
+
+		//// Assertions
+		assertEquals(0, BatchGenerator.getExitCode(List.of()));
+		assertEquals(0, BatchGenerator.getExitCode(List.of(success, success)));
+		assertEquals(1, BatchGenerator.getExitCode(List.of(success, failure)));
+		assertEquals(ResourceHandler.getMessage("command.output.batch.summary", 1, 2, 1) + System.lineSeparator(), summary(List.of(success, failure)));
+		assertEquals(ResourceHandler.getMessage("command.output.batch.summary", 2, 2, 0) + System.lineSeparator(), summary(List.of(success, success)));
+	}
+
+	@Test
+	public void testPrintResult() {
+		//// Test values
+		BatchResult failure = BatchResult.failure(new File("b.json"), List.of("First", "Second"));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//// Print
+		BatchGenerator.printResult(failure, new PrintStream(out, true, StandardCharsets.UTF_8));
+
+		//// Assertions
+		String separator = System.lineSeparator();
+		assertEquals(ResourceHandler.getMessage("command.output.batch.failure", "b.json") + separator + "\tFirst" + separator + "\tSecond" + separator,
+				out.toString(StandardCharsets.UTF_8));
+	}
+
+	private static BatchGenerateRequest request(Path global, Path months, Path output) {
+		return new BatchGenerateRequest(false, global.toFile(), months.toString(), output.toFile(), 2, OutputFormat.LATEX, null);
+	}
+
+	private static BatchGenerateRequest mergeRequest(Path global, Path months, Path output) {
+		return new BatchGenerateRequest(false, global.toFile(), months.toString(), output.toFile(), 2, OutputFormat.PDF, "all.pdf");
+	}
+
+	private static <T> T withScratchDirectory(Path scratch, BatchRun<T> run) throws IOException, ParseException {
+		PDFMemorySettings previous = PDFCompiler.getMemorySettings();
+		PDFCompiler.setMemorySettings(new PDFMemorySettings(previous.maxMainMemoryBytes(), scratch.toFile()));
+		try {
+			return run.run();
+		} finally {
+			PDFCompiler.setMemorySettings(previous);
+		}
+	}
+
+	private static String summary(List<BatchResult> results) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BatchGenerator.printSummary(results, new PrintStream(out, true, StandardCharsets.UTF_8));
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private static Path write(Path file, String content) throws IOException {
+		return Files.writeString(file, content);
+	}
+
+	private static List<String> names(List<File> files) {
+		return files.stream().map(File::getName).toList();
+	}
+
+	private static List<String> names(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString()).sorted().toList();
+		}
+	}
+
+	@FunctionalInterface
+	private interface BatchRun<T> {
+		T run() throws IOException, ParseException;
+	}
+}
@@ -0,0 +1,162 @@
+/* Licensed under MIT 2026. */
+package main.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelineExecutorTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+	private static final int INPUTS = 50;
+
+	@Test
+	public void testResultOrder() {
+		//// Test values
+		List<Integer> inputs = IntStream.range(0, INPUTS).boxed().toList();
+		List<String> reported = new ArrayList<>();
+
+		//// Run
+		List<String> outputs = assertTimeoutPreemptively(TIMEOUT, () -> {
+			try (PipelineExecutor executor = new PipelineExecutor(4)) {
+				// Later inputs complete earlier
+				return executor.run(inputs, input -> input, input -> {
+					Thread.sleep(INPUTS - input);
+					return input * 2;
+				}, output -> "out" + output, (input, e) -> "failed" + input, reported::add);
+			}
+		});
+
+		//// Assertions
+		List<String> expected = inputs.stream().map(input -> "out" + input * 2).toList();
+		assertEquals(expected, outputs);
+		assertEquals(expected, reported);
+	}
+
+	@Test
+	public void testInFlightBound() {
+		//// Test values
+		int parallelism = 2;
+		List<Integer> inputs = IntStream.range(0, INPUTS).boxed().toList();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		//// Run
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			try (PipelineExecutor executor = new PipelineExecutor(parallelism)) {
+				executor.run(inputs, input -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					return input;
+				}, input -> input, input -> {
+					// Slow writes would let an unbounded pipeline read all inputs ahead
+					Thread.sleep(2);
+					inFlight.decrementAndGet();
+					return input;
+				}, (input, e) -> -1, output -> {
+				});
+			}
+		});
+
+		//// Assertions
+		assertTrue(maxInFlight.get() <= parallelism * 2, "In flight: " + maxInFlight.get());
+		assertEquals(0, inFlight.get());
+	}
+
+	@Test
+	public void testFailureMapping() {
+		//// Test values
+		List<Integer> inputs = IntStream.range(0, INPUTS).boxed().toList();
+
+		//// Run
+		List<String> outputs = assertTimeoutPreemptively(TIMEOUT, () -> {
+			try (PipelineExecutor executor = new PipelineExecutor(3)) {
+				return executor.run(inputs, input -> {
+					if (input % 5 == 0) {
+						throw new IOException("read" + input);
+					}
+					return input;
+				}, input -> {
+					if (input % 5 == 1) {
+						throw new IllegalStateException("compute" + input);
+					}
+					return input;
+				}, input -> "ok" + input, (input, e) -> e.getClass().getSimpleName() + ":" + e.getMessage(), output -> {
+				});
+			}
+		});
+
+		//// Assertions
+		for (int input : inputs) {
+			String expected = switch (input % 5) {
+			case 0 -> "IOException:read" + input;
+			case 1 -> "IllegalStateException:compute" + input;
+			default -> "ok" + input;
+			};
+			assertEquals(expected, outputs.get(input));
+		}
+	}
+
+	@Test
+	public void testErrorIsRethrown() {
+		//// Test values
+		List<Integer> inputs = IntStream.range(0, INPUTS).boxed().toList();
+		Error error = new StackOverflowError("compute");
+		List<Integer> reported = new ArrayList<>();
+
+		//// Run
+		Error thrown = assertTimeoutPreemptively(TIMEOUT, () -> {
+			try (PipelineExecutor executor = new PipelineExecutor(2)) {
+				return assertThrows(StackOverflowError.class, () -> executor.run(inputs, input -> input, input -> {
+					if (input == 10) {
+						throw error;
+					}
+					return input;
+				}, input -> input, (input, e) -> -1, reported::add));
+			}
+		});
+
+		//// Assertions
+		assertSame(error, thrown);
+		assertEquals(IntStream.range(0, 10).boxed().toList(), reported);
+	}
+
+	@Test
+	public void testFailingFailureFunction() {
+		//// Test values
+		List<Integer> inputs = IntStream.range(0, INPUTS).boxed().toList();
+
+		//// Run
+		IllegalArgumentException thrown = assertTimeoutPreemptively(TIMEOUT, () -> {
+			try (PipelineExecutor executor = new PipelineExecutor(2)) {
+				return assertThrows(IllegalArgumentException.class, () -> executor.run(inputs, input -> {
+					if (input == 3) {
+						throw new IOException("read");
+					}
+					return input;
+				}, input -> input, input -> input, (input, e) -> {
+					throw new IllegalArgumentException("failure" + input);
+				}, output -> {
+				}));
+			}
+		});
+
+		//// Assertions
+		assertEquals("failure3", thrown.getMessage());
+	}
+
+	@Test
+	public void testInvalidParallelism() {
+		assertThrows(IllegalArgumentException.class, () -> new PipelineExecutor(0));
+	}
+}
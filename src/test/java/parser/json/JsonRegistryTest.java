@@ -0,0 +1,46 @@
+/* Licensed under MIT 2026. */
+package parser.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonRegistryTest {
+
+	private static final String JSON_UNKNOWN_PROPERTY = "{" + "\"name\": \"Max Mustermann\"," + "\"staffId\": 1234567," + "\"department\": \"Fakultät für Informatik\","
+			+ "\"workingTime\": \"40:00\"," + "\"wage\": 10.31," + "\"workingArea\": \"ub\"," + "\"unknown\": 1" + "}";
+
+	@Test
+	public void testReaderIsShared() {
+		assertSame(JsonRegistry.reader(GlobalJson.class), JsonRegistry.reader(GlobalJson.class));
+	}
+
+	@Test
+	public void testWriterIsShared() {
+		assertSame(JsonRegistry.writer(GlobalJson.class), JsonRegistry.writer(GlobalJson.class));
+	}
+
+	@Test
+	public void testReaderRejectsUnknownProperties() {
+		ObjectReader reader = JsonRegistry.reader(GlobalJson.class);
+
+		assertThrows(UnrecognizedPropertyException.class, () -> reader.readValue(JSON_UNKNOWN_PROPERTY));
+	}
+
+	@Test
+	public void testDerivedReaderDoesNotAffectSharedReader() throws JsonProcessingException {
+		ObjectReader lenient = JsonRegistry.reader(GlobalJson.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+		GlobalJson global = lenient.readValue(JSON_UNKNOWN_PROPERTY);
+
+		assertEquals("Max Mustermann", global.getName());
+		assertThrows(UnrecognizedPropertyException.class, () -> JsonRegistry.reader(GlobalJson.class).readValue(JSON_UNKNOWN_PROPERTY));
+	}
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under MIT 2026. */
+package parser.json;
+
+import data.Entry;
+import data.TimeSpan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import parser.IMonthParser;
+import parser.ParseException;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonStreamingMonthParserTest {
+
+	private static final String JSON_EXAMPLE_FULL = "{" + "\"$schema\": \"https://example.com/schema.json\"," + "\"year\": 2019," + "\"month\": 11,"
+			+ "\"pred_transfer\": \"2:00\"," + "\"succ_transfer\": \"1:00\"," + "\"entries\": ["
+			+ "{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 4, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"},"
+			+ "{\"action\": \"Urlaub in Italien\", \"day\": 11, \"start\": \"09:00\", \"end\": \"12:00\", \"vacation\": true}" + "]" + "}";
+	private static final String JSON_ENTRIES_FIRST = "{" + "\"entries\": [" + "{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\"}"
+			+ "]," + "\"month\": 11," + "\"year\": 2019" + "}";
+
+	@Test
+	public void testParseFull() throws ParseException {
+		// data
+		IMonthParser parser = new JsonStreamingMonthParser(JSON_EXAMPLE_FULL);
+
+		// assert
+		assertEquals(YearMonth.of(2019, 11), parser.getYearMonth());
+		assertEquals(new TimeSpan(2, 0), parser.getPredTransfer());
+		assertEquals(new TimeSpan(1, 0), parser.getSuccTransfer());
+
+		Entry[] entries = parser.getEntries();
+		assertEquals(3, entries.length);
+		assertEquals(new Entry("Fragen beantworten", LocalDate.of(2019, 11, 4), new TimeSpan(11, 31), new TimeSpan(15, 11), new TimeSpan(0, 30), false),
+				entries[1]);
+		assertTrue(entries[2].isVacation());
+	}
+
+	@Test
+	public void testSameResultAsDatabind() throws ParseException {
+		// data
+		IMonthParser streaming = new JsonStreamingMonthParser(JSON_EXAMPLE_FULL);
+		IMonthParser databind = new JsonMonthParser(JSON_EXAMPLE_FULL);
+
+		// assert
+		assertEquals(databind.getYearMonth(), streaming.getYearMonth());
+		assertArrayEquals(databind.getEntries(), streaming.getEntries());
+		assertEquals(databind.getPredTransfer(), streaming.getPredTransfer());
+		assertEquals(databind.getSuccTransfer(), streaming.getSuccTransfer());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\"year\": \"2019\"", "\"year\": \" +2019 \"", "\"year\": 2019.7", "\"year\": null", "\"year\": \"\"", "\"day\": \"2\"",
+			"\"day\": 2.0", "\"action\": 10", "\"action\": true", "\"vacation\": \"TRUE\"", "\"vacation\": \" false \"",
+			"\"vacation\": 2", "\"vacation\": 0", "\"vacation\": null", "\"vacation\": \"\"" })
+	public void testCoercesScalarsLikeDatabind(String property) throws ParseException {
+		// data
+		String name = property.substring(0, property.indexOf(':') + 1);
+		String json = JSON_EXAMPLE_FULL.replaceFirst(name + " [^,}]+", property);
+		IMonthParser streaming = new JsonStreamingMonthParser(json);
+		IMonthParser databind = new JsonMonthParser(json);
+
+		// assert
+		assertTrue(json.contains(property));
+		assertEquals(databind.getYearMonth(), streaming.getYearMonth());
+		assertArrayEquals(databind.getEntries(), streaming.getEntries());
+	}
+
+	@Test
+	public void testParseFromReader() throws ParseException {
+		// data
+		IMonthParser parser = new JsonStreamingMonthParser(new StringReader(JSON_EXAMPLE_FULL));
+
+		// assert
+		assertEquals(YearMonth.of(2019, 11), parser.getYearMonth());
+		assertEquals(3, parser.getEntries().length);
+	}
+
+	@Test
+	public void testParseEntriesBeforeYearMonth() throws ParseException {
+		// data
+		IMonthParser parser = new JsonStreamingMonthParser(JSON_ENTRIES_FIRST);
+
+		// assert
+		assertEquals(YearMonth.of(2019, 11), parser.getYearMonth());
+		assertEquals(LocalDate.of(2019, 11, 2), parser.getEntries()[0].getDate());
+		assertEquals(new TimeSpan(0, 0), parser.getPredTransfer());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "{}", "[]", "{\"year\": 2019, \"month\": 11}", "{\"month\": 11, \"entries\": []}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [], \"additional\": 1}", "{\"year\": 2019, \"month\": 13, \"entries\": []}",
+			"{\"year\": \"2019.0\", \"month\": 11, \"entries\": []}", "{\"year\": 2019, \"month\": 11, \"pred_transfer\": \"2\", \"entries\": []}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\"}]}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"Korrektur\", \"day\": 31, \"start\": \"10:00\", \"end\": \"11:00\"}]}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\", \"x\": 1}]}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\", \"vacation\": \"yes\"}]}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [{\"action\": \"Korrektur\", \"day\": 2, \"start\": null, \"end\": \"11:00\"}]}",
+			"{\"year\": 2019, \"month\": 11, \"entries\": [" })
+	public void testParseInvalid(String json) {
+		// data
+		IMonthParser parser = new JsonStreamingMonthParser(json);
+
+		// execute
+		assertThrows(ParseException.class, parser::getEntries);
+	}
+
+}
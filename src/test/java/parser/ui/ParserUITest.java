@@ -0,0 +1,155 @@
+/* Licensed under MIT 2026. */
+package parser.ui;
+
+import data.TimeSheet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import parser.ParseException;
+import parser.Parser;
+import ui.json.Global;
+import ui.json.Month;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParserUITest {
+
+	private static final String JSON_GLOBAL_EXAMPLE = "{" + "\"name\": \"Max Mustermann\"," + "\"staffId\": 1234567,"
+			+ "\"department\": \"Fakultät für Informatik\"," + "\"workingTime\": \"40:00\"," + "\"wage\": 10.31," + "\"workingArea\": \"ub\"" + "}";
+	private static final String JSON_MONTH_EXAMPLE = "{" + "\"year\": 2019," + "\"month\": 11," + "\"pred_transfer\": \"2:00\","
+			+ "\"succ_transfer\": \"1:00\"," + "\"entries\": [" + "{\"action\": \"Korrektur\", \"day\": 2, \"start\": \"10:00\", \"end\": \"11:00\"},"
+			+ "{\"action\": \"Fragen beantworten\", \"day\": 4, \"start\": \"11:31\", \"end\": \"15:11\", \"pause\": \"00:30\"},"
+			+ "{\"action\": \"Urlaub in Italien\", \"day\": 11, \"start\": \"09:00\", \"end\": \"12:00\", \"vacation\": true}" + "]" + "}";
+
+	@Test
+	public void testParseTimeSheetSameAsJson() throws ParseException {
+		//// Test values
+		Global global = createGlobal();
+		Month month = createMonth();
+
+		//// Assertions
+		assertEquals(Parser.parseTimeSheetJson(JSON_GLOBAL_EXAMPLE, JSON_MONTH_EXAMPLE), Parser.parseTimeSheet(global, month));
+	}
+
+	@Test
+	public void testParseTimeSheetVacationPauseIgnored() throws ParseException {
+		//// Test values
+		Month month = createMonth();
+		month.getEntries().get(2).setPause("01:00");
+
+		//// Assertions
+		assertEquals(Parser.parseTimeSheetJson(JSON_GLOBAL_EXAMPLE, JSON_MONTH_EXAMPLE), Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetMissingTransfers() throws ParseException {
+		//// Test values
+		Month month = createMonth();
+		month.setPredTransfer(null);
+		month.setSuccTransfer(null);
+		String json = JSON_MONTH_EXAMPLE.replace("\"pred_transfer\": \"2:00\"," + "\"succ_transfer\": \"1:00\",", "");
+
+		//// Assertions
+		assertEquals(Parser.parseTimeSheetJson(JSON_GLOBAL_EXAMPLE, json), Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetMissingStart() {
+		//// Test values
+		Month month = createMonth();
+		month.getEntries().getFirst().setStart(null);
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetInvalidTime() {
+		//// Test values
+		Month month = createMonth();
+		month.getEntries().getFirst().setEnd("11-00");
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetInvalidDay() {
+		//// Test values
+		Month month = createMonth();
+		month.getEntries().getFirst().setDay(31);
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetInvalidMonth() {
+		//// Test values
+		Month month = createMonth();
+		month.setMonth(13);
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(createGlobal(), month));
+	}
+
+	@Test
+	public void testParseTimeSheetInvalidWorkingArea() {
+		//// Test values
+		Global global = createGlobal();
+		global.setWorkingArea("xy");
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(global, createMonth()));
+	}
+
+	@Test
+	public void testParseTimeSheetMissingWorkingTime() {
+		//// Test values
+		Global global = createGlobal();
+		global.setWorkingTime(null);
+
+		//// Assertions
+		Assertions.assertThrows(ParseException.class, () -> Parser.parseTimeSheet(global, createMonth()));
+	}
+
+	private static Global createGlobal() {
+		Global global = new Global();
+		global.setName("Max Mustermann");
+		global.setStaffId(1234567);
+		global.setDepartment("Fakultät für Informatik");
+		global.setWorkingTime("40:00");
+		global.setWage(10.31);
+		global.setWorkingArea("ub");
+		return global;
+	}
+
+	private static Month createMonth() {
+		Month month = new Month();
+		month.setYear(2019);
+		month.setMonth(11);
+		month.setPredTransfer("2:00");
+		month.setSuccTransfer("1:00");
+
+		List<Month.Entry> entries = new ArrayList<>();
+		entries.add(createEntry("Korrektur", 2, "10:00", "11:00", "00:00", false));
+		entries.add(createEntry("Fragen beantworten", 4, "11:31", "15:11", "00:30", false));
+		entries.add(createEntry("Urlaub in Italien", 11, "09:00", "12:00", "00:00", true));
+		month.setEntries(entries);
+		return month;
+	}
+
+	private static Month.Entry createEntry(String action, int day, String start, String end, String pause, boolean vacation) {
+		Month.Entry entry = new Month.Entry();
+		entry.setAction(action);
+		entry.setDay(day);
+		entry.setStart(start);
+		entry.setEnd(end);
+		entry.setPause(pause);
+		entry.setVacation(vacation);
+		return entry;
+	}
+
+}